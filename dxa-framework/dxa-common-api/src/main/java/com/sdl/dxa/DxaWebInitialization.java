@@ -1,6 +1,7 @@
 package com.sdl.dxa;
 
 import com.sdl.webapp.common.impl.interceptor.HealthCheckFilter;
+import com.sdl.webapp.common.impl.interceptor.RequestSnapshotFilter;
 import com.sdl.webapp.common.util.InitializationUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
@@ -53,6 +54,7 @@ public class DxaWebInitialization implements WebApplicationInitializer, Ordered
 
             registerWebServiceServlet(servletContext);
             registerCharacterEncodingFilter(servletContext);
+            InitializationUtils.registerFilter(servletContext, RequestSnapshotFilter.class, "/*");
 
             InitializationUtils.registerFilter(servletContext, HealthCheckFilter.class, "/system/health");
 
@@ -0,0 +1,136 @@
+package com.sdl.webapp.common.api;
+
+import com.sdl.webapp.common.api.localization.Localization;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Immutable view of the values of the current request which do not change while it is handled, read from the
+ * servlet request once.
+ * <p>Hot paths take the snapshot once where they are entered and pass it on, instead of asking the request-scoped
+ * {@link WebRequestContext} for each value. Work done outside of the request thread gets the snapshot of the request
+ * it is done for, so it never needs the request itself.</p>
+ *
+ * @dxa.publicApi
+ * @see WebRequestContext#getSnapshot()
+ */
+@Value
+@Builder(toBuilder = true)
+public class RequestSnapshot {
+
+    /**
+     * Name of the request attribute holding the snapshot of a request.
+     */
+    public static final String ATTRIBUTE = RequestSnapshot.class.getName();
+
+    private static final String CONTEXT_COOKIE = "context";
+
+    private static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
+
+    private static final String X_PREVIEW_SESSION_TOKEN = "x-preview-session-token";
+
+    private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+    private String baseUrl;
+
+    private String contextPath;
+
+    private String requestPath;
+
+    private String previewToken;
+
+    private boolean contextCookiePresent;
+
+    private boolean include;
+
+    private boolean developerMode;
+
+    /**
+     * Localization of the request, {@code null} in the snapshot read by {@link #of(HttpServletRequest)} since the
+     * localization is resolved later.
+     */
+    private Localization localization;
+
+    /**
+     * Fingerprint of the claims models are requested with, {@code null} if not known. Claims may still change
+     * while the request is handled, so it is set where models are requested rather than for the whole request.
+     */
+    private String claimsFingerprint;
+
+    /**
+     * Reads the snapshot of the given request, scanning its cookies once.
+     *
+     * @param request request to read
+     * @return snapshot of the request
+     */
+    public static RequestSnapshot of(HttpServletRequest request) {
+        String previewToken = null;
+        boolean contextCookiePresent = false;
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (previewToken == null && PREVIEW_SESSION_TOKEN.equals(cookie.getName())) {
+                    previewToken = cookie.getValue();
+                } else if (CONTEXT_COOKIE.equals(cookie.getName())) {
+                    contextCookiePresent = true;
+                }
+            }
+        }
+        if (previewToken == null) {
+            previewToken = request.getHeader(X_PREVIEW_SESSION_TOKEN);
+        }
+
+        String serverName = request.getServerName();
+        return RequestSnapshot.builder()
+                .baseUrl(baseUrl(request.getRequestURL().toString(), request.getRequestURI()))
+                .contextPath(URL_PATH_HELPER.getOriginatingContextPath(request))
+                .requestPath(URL_PATH_HELPER.getPathWithinApplication(request))
+                .previewToken(previewToken)
+                .contextCookiePresent(contextCookiePresent)
+                .include(request.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null)
+                .developerMode(serverName != null && serverName.contains("localhost"))
+                .build();
+    }
+
+    /**
+     * Returns the snapshot of the given request, the one taken by the request filter if there is one.
+     *
+     * @param request request to read
+     * @return snapshot of the request
+     */
+    public static RequestSnapshot from(ServletRequest request) {
+        Object snapshot = request.getAttribute(ATTRIBUTE);
+        if (snapshot instanceof RequestSnapshot) {
+            return (RequestSnapshot) snapshot;
+        }
+        return of((HttpServletRequest) request);
+    }
+
+    /**
+     * Returns the base URL of a request, i.e. its URL without the request URI at its end.
+     *
+     * @param requestUrl URL of the request
+     * @param requestUri URI of the request
+     * @return the base URL
+     */
+    static String baseUrl(String requestUrl, String requestUri) {
+        if (requestUri != null && requestUrl.endsWith(requestUri)) {
+            return requestUrl.substring(0, requestUrl.length() - requestUri.length());
+        }
+        return requestUrl;
+    }
+
+    public String getFullUrl() {
+        return baseUrl + contextPath + requestPath;
+    }
+
+    public boolean isSessionPreview() {
+        return previewToken != null;
+    }
+}
@@ -135,4 +135,23 @@ public interface WebRequestContext {
     String getPageContextId();
 
     void setPageContextId(String pageContextId);
+
+    /**
+     * Gets the values of the current request which do not change while it is handled, all together with its
+     * localization, so that hot paths can read them once instead of asking this context for each of them.
+     *
+     * @return snapshot of the current request
+     */
+    default RequestSnapshot getSnapshot() {
+        return RequestSnapshot.builder()
+                .baseUrl(getBaseUrl())
+                .contextPath(getContextPath())
+                .requestPath(getRequestPath())
+                .previewToken(getPreviewToken())
+                .contextCookiePresent(isContextCookiePresent())
+                .include(isInclude())
+                .developerMode(isDeveloperMode())
+                .localization(getLocalization())
+                .build();
+    }
 }
@@ -1,5 +1,10 @@
 package com.sdl.webapp.common.api.localization;
 
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @FunctionalInterface
 public interface LocalizationFactory {
 
@@ -12,4 +17,24 @@ public interface LocalizationFactory {
      * @throws com.sdl.webapp.common.api.localization.LocalizationFactoryException If an error occurs so that the localization cannot be created.
      */
     Localization createLocalization(String id, String path) throws LocalizationFactoryException;
+
+    /**
+     * Creates the localizations with the specified IDs and paths, for instance to build them before they are requested.
+     * Localizations which cannot be created are logged and left out. The default implementation creates them one after another.
+     *
+     * @param pathsById The paths of the localizations to create, by localization ID.
+     * @return The created localizations, by localization ID.
+     */
+    default Map<String, Localization> createLocalizations(Map<String, String> pathsById) {
+        Map<String, Localization> localizations = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : pathsById.entrySet()) {
+            try {
+                localizations.put(entry.getKey(), createLocalization(entry.getKey(), entry.getValue()));
+            } catch (LocalizationFactoryException e) {
+                LoggerFactory.getLogger(LocalizationFactory.class)
+                        .warn("Could not create localization [" + entry.getKey() + "] " + entry.getValue(), e);
+            }
+        }
+        return localizations;
+    }
 }
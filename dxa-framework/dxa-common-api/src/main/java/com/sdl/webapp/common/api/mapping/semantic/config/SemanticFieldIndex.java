@@ -0,0 +1,94 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable map of semantic fields which also indexes the fields for lookups by semantics.
+ * <p>A lookup by {@link FieldSemantics} returns the field with exactly these semantics, otherwise a standard metadata
+ * field with the same property name, otherwise the first match in embedded fields, searched depth-first.
+ * The index flattens the embedded fields once, so {@link #find(FieldSemantics)} is two hash lookups.</p>
+ */
+public final class SemanticFieldIndex extends ForwardingMap<FieldSemantics, SemanticField> {
+
+    private final Map<FieldSemantics, SemanticField> fields;
+
+    private final Map<FieldSemantics, Hit> bySemantics = new HashMap<>();
+
+    private final Map<String, Hit> byStandardMetadataProperty = new HashMap<>();
+
+    private int nodes;
+
+    private SemanticFieldIndex(Map<FieldSemantics, SemanticField> fields) {
+        this.fields = ImmutableMap.copyOf(fields);
+        index(this.fields);
+    }
+
+    /**
+     * Returns an index of the given semantic fields, the map itself if it is already an index.
+     *
+     * @param fields semantic fields
+     * @return index of the fields
+     */
+    @NotNull
+    public static SemanticFieldIndex of(@NotNull Map<FieldSemantics, SemanticField> fields) {
+        return fields instanceof SemanticFieldIndex ? (SemanticFieldIndex) fields : new SemanticFieldIndex(fields);
+    }
+
+    /**
+     * Finds the semantic field matching the given semantics in these fields or their embedded fields.
+     *
+     * @param semantics semantics to look for
+     * @return matching semantic field or {@code null} if there is none
+     */
+    @Nullable
+    public SemanticField find(FieldSemantics semantics) {
+        Hit exact = bySemantics.get(semantics);
+        Hit standardMetadata = byStandardMetadataProperty.get(semantics.getPropertyName());
+        if (exact == null) {
+            return standardMetadata == null ? null : standardMetadata.field;
+        }
+        return standardMetadata == null || exact.node <= standardMetadata.node ? exact.field : standardMetadata.field;
+    }
+
+    @Override
+    protected Map<FieldSemantics, SemanticField> delegate() {
+        return fields;
+    }
+
+    /**
+     * Indexes the fields in the order they are searched: the fields of a map first, then the embedded fields
+     * of each field recursively. Only the first hit is kept for each key.
+     */
+    private void index(Map<FieldSemantics, SemanticField> fields) {
+        int node = nodes++;
+        for (Map.Entry<FieldSemantics, SemanticField> entry : fields.entrySet()) {
+            FieldSemantics semantics = entry.getKey();
+            Hit hit = new Hit(node, entry.getValue());
+            bySemantics.putIfAbsent(semantics, hit);
+            if (semantics.isStandardMetadataField()) {
+                byStandardMetadataProperty.putIfAbsent(semantics.getPropertyName(), hit);
+            }
+        }
+        for (SemanticField field : fields.values()) {
+            index(field.getEmbeddedFields());
+        }
+    }
+
+    private static final class Hit {
+
+        private final int node;
+
+        private final SemanticField field;
+
+        private Hit(int node, SemanticField field) {
+            this.node = node;
+            this.field = field;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.sdl.webapp.common.api.mapping.semantic.config;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.sdl.webapp.common.api.localization.Localization;
 import lombok.EqualsAndHashCode;
@@ -37,7 +36,7 @@ public final class SemanticSchema {
         this.id = id;
         this.rootElement = rootElement;
         this.entitySemantics = ImmutableSet.copyOf(entitySemantics);
-        this.semanticFields = ImmutableMap.copyOf(semanticFields);
+        this.semanticFields = SemanticFieldIndex.of(semanticFields);
     }
 
     public Set<String> getFullyQualifiedNames() {
@@ -1,9 +1,12 @@
 package com.sdl.webapp.common.api.model;
 
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
+import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.formatters.support.FeedItemsProvider;
 import com.sdl.webapp.common.exceptions.DxaException;
 
 import javax.servlet.http.HttpServletResponse;
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -43,6 +46,24 @@ public interface PageModel extends ViewModel, FeedItemsProvider, CanFilterEntiti
 
     PageModel deepCopy() throws DxaException;
 
+    /**
+     * Returns a copy of this page with conditional entities filtered out, leaving this page untouched.
+     * <p>Unlike {@link #deepCopy()} the copy may share unchanged {@link EntityModel}s with this page, so they should be
+     * treated as read-only. The default implementation falls back to {@link #deepCopy()} followed by
+     * {@link #filterConditionalEntities(Collection)}.</p>
+     *
+     * @param evaluators list of evaluators to evaluate entities against
+     * @return a filtered copy of this page
+     * @throws DxaException             if the page cannot be copied
+     * @throws ContentProviderException if any of evaluators fails
+     * @dxa.publicApi
+     */
+    default PageModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) throws DxaException, ContentProviderException {
+        PageModel copy = deepCopy();
+        copy.filterConditionalEntities(evaluators);
+        return copy;
+    }
+
     /**
      * <p>Implementors of this interface may want to save some data in a servlet response.</p>
      * <p>It is a workaround that might be removed in a future in case the better solution is found. So preferably
@@ -1,8 +1,11 @@
 package com.sdl.webapp.common.api.model;
 
+import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
+import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.formatters.support.FeedItemsProvider;
 import com.sdl.webapp.common.exceptions.DxaException;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -57,4 +60,20 @@ public interface RegionModel extends ViewModel, FeedItemsProvider, CanFilterEnti
     void addEntity(EntityModel entity);
 
     RegionModel deepCopy() throws DxaException;
+
+    /**
+     * Returns a copy of this region with conditional entities filtered out, leaving this region untouched.
+     * The copy may share {@link EntityModel}s with this region. The default implementation falls back to
+     * {@link #deepCopy()} followed by {@link #filterConditionalEntities(Collection)}.
+     *
+     * @param evaluators list of evaluators to evaluate entities against
+     * @return a filtered copy of this region
+     * @throws DxaException             if the region cannot be copied
+     * @throws ContentProviderException if any of evaluators fails
+     */
+    default RegionModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) throws DxaException, ContentProviderException {
+        RegionModel copy = deepCopy();
+        copy.filterConditionalEntities(evaluators);
+        return copy;
+    }
 }
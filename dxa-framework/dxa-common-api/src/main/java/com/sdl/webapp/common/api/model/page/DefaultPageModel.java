@@ -102,6 +102,24 @@ public class DefaultPageModel extends AbstractViewModel implements PageModel {
         return clone;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Only the page and region shells are copied, the entities are shared with this page.</p>
+     */
+    @Override
+    public PageModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) throws DxaException, ContentProviderException {
+        DefaultPageModel copy = (DefaultPageModel) super.deepCopy();
+        copy.regions = new RegionModelSetImpl();
+        for (RegionModel regionModel : regions) {
+            copy.getRegions().add(regionModel.filteredCopy(evaluators));
+        }
+
+        if (meta != null) {
+            copy.meta = new HashMap<>(meta);
+        }
+        return copy;
+    }
+
     @Override
     public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) throws ContentProviderException {
         final AtomicReference<ContentProviderException> exception = new AtomicReference<>();
@@ -198,6 +198,27 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
         return clone;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Only the region shells are copied, the entities are shared with this region.</p>
+     */
+    @Override
+    public RegionModel filteredCopy(Collection<ConditionalEntityEvaluator> evaluators) throws DxaException, ContentProviderException {
+        RegionModelImpl copy = (RegionModelImpl) super.deepCopy();
+        copy.entities = new ArrayList<>(entities.size());
+        for (EntityModel entityModel : entities) {
+            if (includeEntity(entityModel, evaluators)) {
+                copy.entities.add(entityModel);
+            }
+        }
+
+        copy.regions = new RegionModelSetImpl();
+        for (RegionModel regionModel : regions) {
+            copy.getRegions().add(regionModel.filteredCopy(evaluators));
+        }
+        return copy;
+    }
+
     @Override
     public void filterConditionalEntities(Collection<ConditionalEntityEvaluator> evaluators) throws ContentProviderException {
         AtomicReference<ContentProviderException> exception = new AtomicReference<>();
@@ -209,17 +230,26 @@ public class RegionModelImpl extends AbstractViewModel implements RegionModel {
             }
         });
         if (exception.get() != null) throw exception.get();
-        entities.removeIf(entityModel -> !evaluators.stream().allMatch(evaluator -> {
+        entities.removeIf(entityModel -> {
             try {
-                return evaluator.includeEntity(entityModel);
+                return !includeEntity(entityModel, evaluators);
             } catch (ContentProviderException ex) {
                 if (exception.get() == null) exception.set(ex);
-                return true;
+                return false;
             }
-        }));
+        });
         if (exception.get() != null) throw exception.get();
     }
 
+    private static boolean includeEntity(EntityModel entityModel, Collection<ConditionalEntityEvaluator> evaluators) throws ContentProviderException {
+        for (ConditionalEntityEvaluator evaluator : evaluators) {
+            if (!evaluator.includeEntity(entityModel)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -7,7 +7,9 @@ import com.sdl.webapp.common.api.model.MvcData;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.entity.ExceptionEntity;
+import com.sdl.webapp.common.controller.exception.InternalServerErrorException;
 import com.sdl.webapp.common.controller.exception.NotFoundException;
+import com.sdl.webapp.common.exceptions.DxaException;
 import com.sdl.webapp.common.util.ApplicationContextHolder;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.Nullable;
@@ -70,6 +72,25 @@ public abstract class BaseController {
         return entity;
     }
 
+    /**
+     * Entities of a page model are shared with the cached page model, so an entity which is going to be enriched
+     * by a controller is copied first. Entities rendered by the default action without data binding are returned as is.
+     *
+     * @param entity  the entity to be enriched
+     * @param request current request
+     * @return the entity itself or its deep copy
+     */
+    EntityModel copyForEnrichment(EntityModel entity, HttpServletRequest request) {
+        if (entity.getMvcData() != null && !isCustomAction(entity.getMvcData()) && !modelBindingRequired(entity, request)) {
+            return entity;
+        }
+        try {
+            return entity.deepCopy();
+        } catch (DxaException e) {
+            throw new InternalServerErrorException("EntityModel " + entity.getId() + " cannot be copied", e);
+        }
+    }
+
     @ExceptionHandler(Exception.class)
     public String handleException(HttpServletRequest request, Exception exception) {
         log.error("Exception while processing request for: {}", request.getRequestURL(), exception);
@@ -159,8 +180,9 @@ public abstract class BaseController {
                     HandlerMethod controllerMethod = handlerMethods.get(mapping);
                     BaseController controller = (BaseController) ApplicationContextHolder.getContext().getBean(controllerMethod.getBean().toString());
                     try {
-                        controller.enrichModel(entity, request);
-                        return entity;
+                        EntityModel copy = controller.copyForEnrichment(entity, request);
+                        controller.enrichModel(copy, request);
+                        return copy;
                     } catch (Exception e) {
                         log.error("Error in EnrichModel", e);
                         return new ExceptionEntity(e); // TODO: What about MvcData?
@@ -49,7 +49,7 @@ public class EntityController extends BaseController {
     protected String handleEntityRequest(HttpServletRequest request, String entityId) throws Exception {
         LOG.trace("handleGetEntity: entityId={}", entityId);
 
-        final EntityModel originalModel = getEntityFromRequest(request, entityId);
+        final EntityModel originalModel = copyForEnrichment(getEntityFromRequest(request, entityId), request);
         final ViewModel enrichedEntity = enrichModel(originalModel, request);
 
         final EntityModel entity = enrichedEntity instanceof EntityModel ? (EntityModel) enrichedEntity : originalModel;
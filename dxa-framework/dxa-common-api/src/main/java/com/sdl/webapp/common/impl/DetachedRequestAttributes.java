@@ -0,0 +1,79 @@
+package com.sdl.webapp.common.impl;
+
+import org.springframework.web.context.request.RequestAttributes;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request scope of work done outside of a servlet request, see {@link RequestContextPropagation}.
+ * <p>Request-scoped beans live until {@link #requestCompleted()}; there is no session.</p>
+ */
+public final class DetachedRequestAttributes implements RequestAttributes {
+
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+
+    private final List<Runnable> destructionCallbacks = new ArrayList<>();
+
+    @Override
+    public Object getAttribute(String name, int scope) {
+        checkScope(scope);
+        return attributes.get(name);
+    }
+
+    @Override
+    public void setAttribute(String name, Object value, int scope) {
+        checkScope(scope);
+        attributes.put(name, value);
+    }
+
+    @Override
+    public void removeAttribute(String name, int scope) {
+        checkScope(scope);
+        attributes.remove(name);
+    }
+
+    @Override
+    public String[] getAttributeNames(int scope) {
+        checkScope(scope);
+        return attributes.keySet().toArray(new String[0]);
+    }
+
+    @Override
+    public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        checkScope(scope);
+        destructionCallbacks.add(callback);
+    }
+
+    @Override
+    public Object resolveReference(String key) {
+        return null;
+    }
+
+    @Override
+    public String getSessionId() {
+        throw new IllegalStateException("There is no session outside of a servlet request");
+    }
+
+    @Override
+    public Object getSessionMutex() {
+        throw new IllegalStateException("There is no session outside of a servlet request");
+    }
+
+    /**
+     * Runs the destruction callbacks of the request-scoped beans.
+     */
+    public void requestCompleted() {
+        destructionCallbacks.forEach(Runnable::run);
+        destructionCallbacks.clear();
+        attributes.clear();
+    }
+
+    private static void checkScope(int scope) {
+        if (scope != SCOPE_REQUEST) {
+            throw new IllegalStateException("There is no session outside of a servlet request");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.sdl.webapp.common.impl;
+
+import com.sdl.webapp.common.api.RequestSnapshot;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Carries what work done for a request in another thread needs from the request, such as building entity models in
+ * parallel, refreshing a cached model or fetching configuration files.
+ * <p>The work never shares the request scope of the request. Each bound task runs with a
+ * {@link DetachedRequestAttributes} scope of its own, which holds the immutable {@link RequestSnapshot} of the request,
+ * so request-scoped beans like {@link WebRequestContextImpl} are created anew for the task and read what they need
+ * from the snapshot. Request attributes are only shared when asked for, and only those whose values are thread-safe.</p>
+ *
+ * @dxa.publicApi
+ */
+public final class RequestContextPropagation {
+
+    private final RequestSnapshot snapshot;
+
+    private final LocaleContext localeContext;
+
+    private final Map<String, Object> sharedAttributes;
+
+    private RequestContextPropagation(RequestSnapshot snapshot, LocaleContext localeContext, Map<String, Object> sharedAttributes) {
+        this.snapshot = snapshot;
+        this.localeContext = localeContext;
+        this.sharedAttributes = sharedAttributes;
+    }
+
+    /**
+     * Captures the context of the current request with the given snapshot, must be called in the request thread.
+     *
+     * @param snapshot         snapshot of the request, with the localization if the work needs it
+     * @param sharedAttributes names of request attributes which are shared with the work, their values must be thread-safe
+     * @return context to bind tasks to
+     */
+    public static RequestContextPropagation capture(RequestSnapshot snapshot, String... sharedAttributes) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<String, Object> shared = Collections.emptyMap();
+        if (attributes != null && sharedAttributes.length > 0) {
+            shared = new LinkedHashMap<>(sharedAttributes.length);
+            for (String name : sharedAttributes) {
+                Object value = attributes.getAttribute(name, RequestAttributes.SCOPE_REQUEST);
+                if (value != null) {
+                    shared.put(name, value);
+                }
+            }
+        }
+        return new RequestContextPropagation(snapshot, LocaleContextHolder.getLocaleContext(), shared);
+    }
+
+    /**
+     * Captures the context of the current request with the snapshot of the request bound to the current thread, if any.
+     *
+     * @return context to bind tasks to
+     */
+    public static RequestContextPropagation capture() {
+        return capture(currentSnapshot());
+    }
+
+    /**
+     * Returns the snapshot of the request bound to the current thread.
+     *
+     * @return snapshot of the current request, {@code null} if no request is bound
+     */
+    public static RequestSnapshot currentSnapshot() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object snapshot = attributes.getAttribute(RequestSnapshot.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (snapshot instanceof RequestSnapshot) {
+            return (RequestSnapshot) snapshot;
+        }
+        return attributes instanceof ServletRequestAttributes ?
+                RequestSnapshot.of(((ServletRequestAttributes) attributes).getRequest()) : null;
+    }
+
+    /**
+     * Wraps the task so that it runs with the captured context. The task restores what was bound to its thread before,
+     * so it may also run in the request thread itself.
+     *
+     * @param task task to wrap
+     * @param <T>  type of the task result
+     * @return task bound to the captured context
+     */
+    public <T> Callable<T> bind(Callable<T> task) {
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            LocaleContext previousLocale = LocaleContextHolder.getLocaleContext();
+
+            DetachedRequestAttributes attributes = new DetachedRequestAttributes();
+            if (snapshot != null) {
+                attributes.setAttribute(RequestSnapshot.ATTRIBUTE, snapshot, RequestAttributes.SCOPE_REQUEST);
+            }
+            sharedAttributes.forEach((name, value) -> attributes.setAttribute(name, value, RequestAttributes.SCOPE_REQUEST));
+            RequestContextHolder.setRequestAttributes(attributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            try {
+                return task.call();
+            } finally {
+                LocaleContextHolder.setLocaleContext(previousLocale);
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                attributes.requestCompleted();
+            }
+        };
+    }
+
+    public RequestSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -99,8 +99,10 @@ public class SpringConfiguration extends WebMvcConfigurerAdapter {
 
     @Bean
     @Profile("!dxa.docs.enabled")
-    public StaticContentInterceptor createStaticContentInterceptor() {
-        return new StaticContentInterceptor();
+    public StaticContentInterceptor createStaticContentInterceptor(
+            @Value("${dxa.static.hot-cache.max-bytes:16777216}") long hotCacheMaxBytes,
+            @Value("${dxa.static.hot-cache.max-entry-bytes:65536}") long hotCacheMaxEntryBytes) {
+        return new StaticContentInterceptor(hotCacheMaxBytes, hotCacheMaxEntryBytes);
     }
 
     @Bean
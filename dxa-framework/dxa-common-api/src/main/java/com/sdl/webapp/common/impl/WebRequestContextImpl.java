@@ -1,6 +1,7 @@
 package com.sdl.webapp.common.impl;
 
 import com.sdl.webapp.common.api.MediaHelper;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.ScreenWidth;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.contextengine.ContextEngine;
@@ -14,6 +15,7 @@ import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.impl.contextengine.BrowserClaims;
 import com.sdl.webapp.common.impl.contextengine.DeviceClaims;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -22,10 +24,10 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.stereotype.Component;
-import org.springframework.web.util.UrlPathHelper;
-import org.springframework.web.util.WebUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
-import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import java.util.Stack;
 
@@ -38,34 +40,17 @@ import java.util.Stack;
 @Scope(value = "request", proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class WebRequestContextImpl implements WebRequestContext {
 
-    private static final String X_PREVIEW_SESSION_TOKEN = "x-preview-session-token";
-    private static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
-
-    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
-
     @Autowired
     private MediaHelper mediaHelper;
 
     @Autowired
     private HttpServletRequest servletRequest;
 
-    @Getter(lazy = true)
-    private final boolean include = include();
-
-    @Getter(lazy = true)
-    private final String contextPath = contextPath();
-
-    @Getter(lazy = true)
-    private final String requestPath = requestPath();
-
-    @Getter(lazy = true)
-    private final String baseUrl = baseUrl();
-
-    @Getter(lazy = true)
-    private final boolean developerMode = developerMode();
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final RequestSnapshot requestSnapshot = requestSnapshot();
 
     @Getter(lazy = true)
-    private final boolean contextCookiePresent = contextCookiePresent();
+    private final RequestSnapshot snapshot = snapshot();
 
     @Autowired
     private ContextEngine contextEngine;
@@ -100,29 +85,49 @@ public class WebRequestContextImpl implements WebRequestContext {
 
     private Stack<Integer> containerSizeStack = new Stack<>();
 
+    @Override
+    public String getBaseUrl() {
+        return getRequestSnapshot().getBaseUrl();
+    }
+
+    @Override
+    public String getContextPath() {
+        return getRequestSnapshot().getContextPath();
+    }
+
+    @Override
+    public String getRequestPath() {
+        return getRequestSnapshot().getRequestPath();
+    }
+
     @Override
     public String getFullUrl() {
-        return getBaseUrl() + getContextPath() + getRequestPath();
+        return getRequestSnapshot().getFullUrl();
     }
 
     @Override
-    public String getPreviewToken() {
-        final Cookie[] cookies = servletRequest.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if (PREVIEW_SESSION_TOKEN.equals(cookie.getName())) {
-                    return cookie.getValue();
-                }
-            }
-        }
-        String fromSession = servletRequest.getHeader(X_PREVIEW_SESSION_TOKEN);
+    public boolean isContextCookiePresent() {
+        return getRequestSnapshot().isContextCookiePresent();
+    }
+
+    @Override
+    public boolean isDeveloperMode() {
+        return getRequestSnapshot().isDeveloperMode();
+    }
 
-        return fromSession;
+    @Override
+    public boolean isInclude() {
+        return getRequestSnapshot().isInclude();
+    }
+
+    @Override
+    public String getPreviewToken() {
+        return getRequestSnapshot().getPreviewToken();
     }
 
     @Override
     public boolean isSessionPreview() {
-        return getPreviewToken() != null;
+        return getRequestSnapshot().isSessionPreview();
     }
 
     /**
@@ -200,32 +205,31 @@ public class WebRequestContextImpl implements WebRequestContext {
         parentRegionStack.pop();
     }
 
-    private String baseUrl() {
-        return servletRequest.getRequestURL().toString().replaceFirst(servletRequest.getRequestURI() + "$", "");
-    }
-
-    private String contextPath() {
-        return urlPathHelper.getOriginatingContextPath(servletRequest);
-    }
-
-    private String requestPath() {
-        return urlPathHelper.getPathWithinApplication(servletRequest);
+    private RequestSnapshot requestSnapshot() {
+        if (isDetached()) {
+            // work detached from a servlet request brings its snapshot in its own request scope, there is no request to read
+            Object snapshot = RequestContextHolder.getRequestAttributes().getAttribute(RequestSnapshot.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (!(snapshot instanceof RequestSnapshot)) {
+                throw new IllegalStateException("No request snapshot is bound to work done outside of a servlet request, " +
+                        "it has to be captured in the request thread, see RequestContextPropagation");
+            }
+            return (RequestSnapshot) snapshot;
+        }
+        Object snapshot = servletRequest.getAttribute(RequestSnapshot.ATTRIBUTE);
+        return snapshot instanceof RequestSnapshot ? (RequestSnapshot) snapshot : RequestSnapshot.of(servletRequest);
     }
 
-    private boolean developerMode() {
-        return servletRequest.getServerName().contains("localhost");
+    private static boolean isDetached() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && !(attributes instanceof ServletRequestAttributes);
     }
 
-    private boolean contextCookiePresent() {
-        final Cookie[] cookies = servletRequest.getCookies();
-        if (cookies != null) {
-            for (Cookie cookie : cookies) {
-                if ("context".equals(cookie.getName())) {
-                    return true;
-                }
-            }
+    private RequestSnapshot snapshot() {
+        RequestSnapshot requestSnapshot = getRequestSnapshot();
+        if (requestSnapshot.getLocalization() != null) {
+            return requestSnapshot;
         }
-        return false;
+        return requestSnapshot.toBuilder().localization(getLocalization()).build();
     }
 
     private boolean noLocalization() {
@@ -233,12 +237,18 @@ public class WebRequestContextImpl implements WebRequestContext {
     }
 
     private Localization localization() {
+        Localization bound = getRequestSnapshot().getLocalization();
+        if (bound != null) {
+            return bound;
+        }
         Localization resolveLocalization = null;
         String fullUrl = getFullUrl();
         try {
-            resolveLocalization = localizationResolver.getLocalization(getFullUrl());
+            resolveLocalization = localizationResolver.getLocalization(fullUrl);
         } catch (LocalizationResolverException e) {
-            if (unknownLocalizationHandler != null) {
+            if (unknownLocalizationHandler != null && isDetached()) {
+                log.warn("Localization is not resolved for " + fullUrl + " outside of a servlet request, Localization handler is not used", e);
+            } else if (unknownLocalizationHandler != null) {
                 log.warn("Localization is not resolved for " + fullUrl + ", Localization handler is set, trying to resolve using it ", e);
                 resolveLocalization = unknownLocalizationHandler.handleUnknown(e, servletRequest);
                 if (resolveLocalization == null) {
@@ -260,10 +270,6 @@ public class WebRequestContextImpl implements WebRequestContext {
         return resolveLocalization;
     }
 
-    public boolean include() {
-        return servletRequest.getAttribute(WebUtils.INCLUDE_REQUEST_URI_ATTRIBUTE) != null;
-    }
-
     private int displayWidth() {
         BrowserClaims claims = contextEngine.getClaims(BrowserClaims.class);
         if (claims == null) {
@@ -276,7 +282,7 @@ public class WebRequestContextImpl implements WebRequestContext {
         }
 
         // NOTE: The context engine uses a default browser width of 800, which we override to 1024
-        if (resolveDisplayWidth == 800 && contextCookiePresent()) {
+        if (resolveDisplayWidth == 800 && isContextCookiePresent()) {
             return Width.DEFAULT_WIDTH;
         }
 
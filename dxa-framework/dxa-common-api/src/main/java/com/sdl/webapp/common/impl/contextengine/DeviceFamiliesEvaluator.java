@@ -1,5 +1,7 @@
 package com.sdl.webapp.common.impl.contextengine;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.NonNull;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
@@ -17,10 +19,13 @@ import javax.annotation.PostConstruct;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,10 +35,15 @@ import static com.sdl.webapp.common.api.contextengine.ContextClaims.castClaim;
 @Component
 public class DeviceFamiliesEvaluator {
 
+    /**
+     * Maximum number of distinct claim fingerprints whose device family is remembered.
+     */
+    private static final int MAX_FINGERPRINTS = 10_000;
+
     @Value("${dxa.context.deviceFamilies.file}")
     private String deviceFamiliesFile;
 
-    private Map<String, Map<String, Evaluator>> deviceFamiliesRules;
+    private Rules deviceFamiliesRules;
 
     @PostConstruct
     public void init() {
@@ -41,15 +51,7 @@ public class DeviceFamiliesEvaluator {
     }
 
     @Nullable String defineDeviceFamily(Map<String, Object> claims) {
-        if (deviceFamiliesRules != null) {
-            for (Map.Entry<String, Map<String, Evaluator>> family : deviceFamiliesRules.entrySet()) {
-                if (isInFamily(claims, family.getValue())) {
-                    log.debug("This is '{}' because of conditions {}", family.getKey(), family.getValue());
-                    return family.getKey();
-                }
-            }
-        }
-        return null;
+        return deviceFamiliesRules == null ? null : deviceFamiliesRules.evaluate(claims);
     }
 
     String fallbackDeviceFamily(DeviceClaims deviceClaims) {
@@ -69,21 +71,6 @@ public class DeviceFamiliesEvaluator {
         return "desktop";
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean isInFamily(@NonNull Map<String, Object> claims,
-                               @NonNull Map<String, Evaluator> families) {
-        for (Map.Entry<String, Evaluator> conditions : families.entrySet()) {
-            Evaluator evaluator = conditions.getValue();
-            String claimName = conditions.getKey();
-
-            if (!claims.containsKey(claimName) ||
-                    !evaluator.evaluate(castClaim(claims.get(claimName), evaluator.genericType()))) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private void readDeviceFamiliesFile() {
         if (deviceFamiliesRules != null) {
             return;
@@ -95,7 +82,7 @@ public class DeviceFamiliesEvaluator {
             return;
         }
 
-        deviceFamiliesRules = new LinkedHashMap<>();
+        Map<String, Map<String, Evaluator>> families = new LinkedHashMap<>();
 
         try {
             Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(resource.getInputStream());
@@ -107,9 +94,9 @@ public class DeviceFamiliesEvaluator {
                 if (node.getNodeType() == Node.ELEMENT_NODE) {
                     Element elFamily = (Element) node;
 
-                    HashMap<String, Evaluator> conditions = new HashMap<>();
+                    Map<String, Evaluator> conditions = new LinkedHashMap<>();
                     String elDeviceFamily = elFamily.getAttribute("name");
-                    deviceFamiliesRules.put(elDeviceFamily, conditions);
+                    families.put(elDeviceFamily, conditions);
 
                     NodeList elConditions = elFamily.getElementsByTagName("condition");
                     for (int j = 0; j < elConditions.getLength(); j++) {
@@ -128,6 +115,121 @@ public class DeviceFamiliesEvaluator {
         } catch (SAXException | IOException | ParserConfigurationException e) {
             log.error("Exception occurred while reading the device-families definition", e);
         }
+
+        deviceFamiliesRules = new Rules(families);
+    }
+
+    /**
+     * Device families rules compiled into flat arrays: every claim used by a condition is looked up once by its index
+     * and cast once per requested type, and the device family is remembered for every distinct set of these claims.
+     *
+     * @since 2.2
+     */
+    private static final class Rules {
+
+        private static final Object MISSING = new Object();
+
+        private final String[] claimNames;
+
+        /**
+         * Index of the claim read by a slot, a slot being a claim cast to one type.
+         */
+        private final int[] slotClaims;
+
+        private final Class<?>[] slotTypes;
+
+        private final String[] families;
+
+        /**
+         * Slots of the conditions of a family, in the same order as its evaluators.
+         */
+        private final int[][] familySlots;
+
+        private final Evaluator[][] familyEvaluators;
+
+        private final Cache<List<Object>, Optional<String>> familiesByFingerprint = CacheBuilder.newBuilder()
+                .maximumSize(MAX_FINGERPRINTS)
+                .build();
+
+        private Rules(Map<String, Map<String, Evaluator>> rules) {
+            Map<String, Integer> claimIndexes = new LinkedHashMap<>();
+            Map<List<Object>, Integer> slotIndexes = new LinkedHashMap<>();
+            List<Integer> claims = new ArrayList<>();
+            List<Class<?>> types = new ArrayList<>();
+
+            this.families = rules.keySet().toArray(new String[0]);
+            this.familySlots = new int[families.length][];
+            this.familyEvaluators = new Evaluator[families.length][];
+
+            for (int i = 0; i < families.length; i++) {
+                Map<String, Evaluator> conditions = rules.get(families[i]);
+                familySlots[i] = new int[conditions.size()];
+                familyEvaluators[i] = new Evaluator[conditions.size()];
+
+                int j = 0;
+                for (Map.Entry<String, Evaluator> condition : conditions.entrySet()) {
+                    Integer claim = claimIndexes.computeIfAbsent(condition.getKey(), name -> claimIndexes.size());
+                    Class<?> type = condition.getValue().genericType();
+                    familySlots[i][j] = slotIndexes.computeIfAbsent(Arrays.asList(claim, type), slot -> {
+                        claims.add(claim);
+                        types.add(type);
+                        return slotIndexes.size();
+                    });
+                    familyEvaluators[i][j] = condition.getValue();
+                    j++;
+                }
+            }
+
+            this.claimNames = claimIndexes.keySet().toArray(new String[0]);
+            this.slotClaims = claims.stream().mapToInt(Integer::intValue).toArray();
+            this.slotTypes = types.toArray(new Class<?>[0]);
+        }
+
+        @Nullable
+        private String evaluate(@NonNull Map<String, Object> claims) {
+            Object[] values = new Object[claimNames.length];
+            for (int i = 0; i < claimNames.length; i++) {
+                Object value = claims.get(claimNames[i]);
+                values[i] = value != null || claims.containsKey(claimNames[i]) ? value : MISSING;
+            }
+
+            List<Object> fingerprint = Arrays.asList(values);
+            Optional<String> family = familiesByFingerprint.getIfPresent(fingerprint);
+            if (family == null) {
+                family = Optional.ofNullable(evaluate(values));
+                familiesByFingerprint.put(fingerprint, family);
+            }
+            return family.orElse(null);
+        }
+
+        @Nullable
+        @SuppressWarnings("unchecked")
+        private String evaluate(Object[] values) {
+            Object[] slots = new Object[slotClaims.length];
+            for (int i = 0; i < slots.length; i++) {
+                Object value = values[slotClaims[i]];
+                slots[i] = value == MISSING ? MISSING : castClaim(value, slotTypes[i]);
+            }
+
+            for (int i = 0; i < families.length; i++) {
+                if (isInFamily(slots, familySlots[i], familyEvaluators[i])) {
+                    log.debug("This is '{}' because of conditions {}", families[i], Arrays.toString(familyEvaluators[i]));
+                    return families[i];
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static boolean isInFamily(Object[] slots, int[] conditionSlots, Evaluator[] evaluators) {
+            for (int i = 0; i < conditionSlots.length; i++) {
+                Object value = slots[conditionSlots[i]];
+                if (value == MISSING || !evaluators[i].evaluate(value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     /**
@@ -173,7 +275,7 @@ public class DeviceFamiliesEvaluator {
                 return new Evaluator<Integer>(Integer.parseInt(number), Sign.gtOrLt(signSymbol)) {
                     @Override
                     boolean evaluate(Integer value) {
-                        return ">".equalsIgnoreCase(signSymbol) ? value > expected : value < expected;
+                        return value != null && (">".equalsIgnoreCase(signSymbol) ? value > expected : value < expected);
                     }
 
                     @Override
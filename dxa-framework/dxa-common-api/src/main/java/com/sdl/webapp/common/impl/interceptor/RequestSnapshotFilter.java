@@ -0,0 +1,37 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.webapp.common.api.RequestSnapshot;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+
+/**
+ * Reads the {@link RequestSnapshot} of a request before it is handled, so that
+ * {@link com.sdl.webapp.common.api.WebRequestContext} does not go back to the servlet request for every value.
+ */
+public class RequestSnapshotFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // nothing here
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
+        if (servletRequest instanceof HttpServletRequest && servletRequest.getAttribute(RequestSnapshot.ATTRIBUTE) == null) {
+            servletRequest.setAttribute(RequestSnapshot.ATTRIBUTE, RequestSnapshot.of((HttpServletRequest) servletRequest));
+        }
+        filterChain.doFilter(servletRequest, servletResponse);
+    }
+
+    @Override
+    public void destroy() {
+        // nothing here
+    }
+}
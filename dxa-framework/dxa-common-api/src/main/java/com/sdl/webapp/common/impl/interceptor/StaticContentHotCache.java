@@ -0,0 +1,114 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.Weigher;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import org.joda.time.Weeks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory tier of small static assets, bounded by the total size of their content and evicting the least recently
+ * used ones first.
+ * <p>Only meant for assets which never change under the same path, such as the versioned {@code /system/vX.Y/} ones:
+ * an asset is never checked against its file again. It is held until evicted, until the localization is refreshed,
+ * or for as long as browsers are told to cache it.</p>
+ */
+final class StaticContentHotCache {
+
+    /**
+     * Same as the max-age sent for versioned assets.
+     */
+    private static final long EXPIRE_AFTER_SECONDS = Weeks.ONE.toStandardSeconds().getSeconds();
+
+    private final Cache<String, Asset> assets;
+
+    private final long maxEntryBytes;
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * @param maxBytes      maximum total size of the held assets, {@code 0} disables the cache
+     * @param maxEntryBytes maximum size of a single asset to be held
+     */
+    StaticContentHotCache(long maxBytes, long maxEntryBytes) {
+        this.maxEntryBytes = maxBytes > 0 ? Math.min(maxEntryBytes, maxBytes) : -1;
+        this.assets = CacheBuilder.newBuilder()
+                .maximumWeight(Math.max(maxBytes, 0))
+                .expireAfterWrite(EXPIRE_AFTER_SECONDS, TimeUnit.SECONDS)
+                .weigher((Weigher<String, Asset>) (key, asset) -> asset.content.length)
+                .removalListener((RemovalListener<String, Asset>) notification -> bytes.addAndGet(-notification.getValue().content.length))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the asset held for the given key.
+     *
+     * @param key key of the asset
+     * @return the asset, or {@code null} if it is not held
+     */
+    Asset get(String key) {
+        return assets.getIfPresent(key);
+    }
+
+    /**
+     * Reads the opened content of the given item and holds it, if it is small enough.
+     *
+     * @param key    key of the asset
+     * @param item   item to hold
+     * @param opened opened content of the item
+     * @return the held asset, or {@code null} if the item is too large to be held
+     * @throws IOException if the content of the item cannot be read
+     */
+    Asset put(String key, StaticContentItem item, StaticContentItem.OpenContent opened) throws IOException {
+        if (opened.getLength() > maxEntryBytes) {
+            return null;
+        }
+        long lastModified = opened.getLastModified();
+        byte[] content = opened.readAll();
+        Asset asset = new Asset(content, item.getContentType(), lastModified, StaticContentInterceptor.eTag(lastModified, content.length));
+        bytes.addAndGet(content.length);
+        assets.put(key, asset);
+        return asset;
+    }
+
+    void clear() {
+        assets.invalidateAll();
+    }
+
+    CacheStats stats() {
+        return assets.stats();
+    }
+
+    long size() {
+        return assets.size();
+    }
+
+    long bytes() {
+        return bytes.get();
+    }
+
+    static final class Asset {
+
+        final byte[] content;
+
+        final String contentType;
+
+        final long lastModified;
+
+        final String eTag;
+
+        private Asset(byte[] content, String contentType, long lastModified, String eTag) {
+            this.content = content;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+            this.eTag = eTag;
+        }
+    }
+}
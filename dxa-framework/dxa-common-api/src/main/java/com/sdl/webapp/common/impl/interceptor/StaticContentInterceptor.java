@@ -14,6 +14,7 @@ import org.joda.time.Weeks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -28,12 +29,22 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Static content interceptor. This interceptor checks if the request is for static content, and if it is, it sends
  * an appropriate response to the client; in that case the request will not be processed further by Spring's
  * {@link org.springframework.web.servlet.DispatcherServlet} (it will not reach any of the controllers).
+ * <p>Published static content is validated with an ETag as well as with its last modification date, supports single
+ * byte range requests and is copied through a buffer from the file channel opened once for the request to the response
+ * stream. Only versioned content, which never changes under the same path, is handed over to the servlet container's
+ * sendfile support when it has one: the container opens the file again by its name, and other files may have been
+ * replaced by then.</p>
+ * <p>Small versioned assets ({@code /system/vX.Y/}) never change under the same path, so outside of preview they are
+ * also held in memory and served from there without asking the content provider again.</p>
  */
 //todo dxa2 remove in preference of simple controller
 public class StaticContentInterceptor extends HandlerInterceptorAdapter {
@@ -41,6 +52,16 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
     private static final String CACHE_CONTROL_WEEK = "public, max-age=" + Weeks.ONE.toStandardSeconds().getSeconds();
     private static final String CACHE_CONTROL_HOUR = "public, max-age=" + Hours.ONE.toStandardSeconds().getSeconds();
     private static final Pattern SYSTEM_VERSION_PATTERN = Pattern.compile("/system/v\\d+\\.\\d+/");
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("bytes=(\\d*)-(\\d*)");
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final long DEFAULT_HOT_CACHE_MAX_BYTES = 16 * 1024 * 1024;
+    private static final long DEFAULT_HOT_CACHE_MAX_ENTRY_BYTES = 64 * 1024;
 
     @Autowired
     private ContentProvider contentProvider;
@@ -48,7 +69,26 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
     @Autowired
     private WebRequestContext webRequestContext;
 
+    private final StaticContentHotCache hotCache;
+
+    public StaticContentInterceptor() {
+        this(DEFAULT_HOT_CACHE_MAX_BYTES, DEFAULT_HOT_CACHE_MAX_ENTRY_BYTES);
+    }
+
+    /**
+     * @param hotCacheMaxBytes      maximum total size of the versioned assets held in memory, {@code 0} disables it
+     * @param hotCacheMaxEntryBytes maximum size of a single versioned asset held in memory
+     */
+    public StaticContentInterceptor(long hotCacheMaxBytes, long hotCacheMaxEntryBytes) {
+        this.hotCache = new StaticContentHotCache(hotCacheMaxBytes, hotCacheMaxEntryBytes);
+    }
+
     private static boolean isToBeRefreshed(ServletServerHttpResponse res, long notModifiedSince, long lastModified, boolean isVersioned, boolean isPreview) {
+        return isToBeRefreshed(res, notModifiedSince, null, null, lastModified, isVersioned, isPreview);
+    }
+
+    private static boolean isToBeRefreshed(ServletServerHttpResponse res, long notModifiedSince, List<String> ifNoneMatch, String eTag,
+                                           long lastModified, boolean isVersioned, boolean isPreview) {
 
         // If preview is enabled we never want to cache images as they may change after editing them
         if (isPreview) {
@@ -64,6 +104,19 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
         }
         res.getHeaders().setLastModified(lastModified);
 
+        // If-None-Match takes precedence over If-Modified-Since when both are sent
+        if (eTag != null) {
+            res.getHeaders().setETag(eTag);
+            if (ifNoneMatch != null && !ifNoneMatch.isEmpty()) {
+                if (matchesETag(ifNoneMatch, eTag)) {
+                    res.setStatusCode(HttpStatus.NOT_MODIFIED);
+                    return false;
+                }
+                res.setStatusCode(HttpStatus.OK);
+                return true;
+            }
+        }
+
         if (lastModified > notModifiedSince + 1000L) {
             res.setStatusCode(HttpStatus.OK);
             return true;
@@ -72,6 +125,148 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
         return false;
     }
 
+    static String eTag(long lastModified, long length) {
+        return '"' + Long.toHexString(lastModified) + '-' + Long.toHexString(length) + '"';
+    }
+
+    private static boolean matchesETag(List<String> ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch) {
+            String value = candidate.trim();
+            if ("*".equals(value) || eTag.equals(value.startsWith("W/") ? value.substring(2) : value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the single byte range requested for the content, if it is to be honoured.
+     *
+     * @return {@code null} if the whole content is to be sent, {@link #UNSATISFIABLE} if the range is out of the content,
+     * or the first and the last requested positions
+     */
+    private static long[] requestedRange(ServletServerHttpRequest req, String eTag, long lastModified, long length) {
+        String range = req.getHeaders().getFirst(HttpHeaders.RANGE);
+        if (range == null) {
+            return null;
+        }
+        String ifRange = req.getHeaders().getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !isCurrent(req, ifRange, eTag, lastModified)) {
+            return null;
+        }
+
+        // multiple ranges are not supported, the whole content is sent instead as the specification allows
+        Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            if (matcher.group(1).isEmpty()) {
+                long suffix = Long.parseLong(matcher.group(2));
+                return suffix == 0 || length == 0 ? UNSATISFIABLE : new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(matcher.group(1));
+            long end = matcher.group(2).isEmpty() ? length - 1 : Long.parseLong(matcher.group(2));
+            if (end < start) {
+                return null;
+            }
+            return start >= length ? UNSATISFIABLE : new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException e) {
+            LOG.debug("Ignoring range {} which is out of bounds", range, e);
+            return null;
+        }
+    }
+
+    private static boolean isCurrent(ServletServerHttpRequest req, String ifRange, String eTag, long lastModified) {
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(eTag);
+        }
+        try {
+            return req.getServletRequest().getDateHeader(HttpHeaders.IF_RANGE) / 1000L == lastModified / 1000L;
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Ignoring invalid If-Range header {}", ifRange, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sets the status and the headers for sending the content, or the part of it which is requested.
+     *
+     * @return the position of the first byte to send and the number of bytes to send, or {@code null} if none is sent
+     */
+    private static long[] prepareContent(ServletServerHttpRequest req, ServletServerHttpResponse res,
+                                         String eTag, long lastModified, long length) {
+        res.getHeaders().set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long[] range = requestedRange(req, eTag, lastModified, length);
+        if (range == UNSATISFIABLE) {
+            res.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            res.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            res.getHeaders().setContentLength(0);
+            return null;
+        }
+        long start = 0;
+        long count = length;
+        if (range != null) {
+            res.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+            res.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes " + range[0] + '-' + range[1] + '/' + length);
+            start = range[0];
+            count = range[1] - range[0] + 1;
+        }
+        res.getHeaders().setContentLength(count);
+        return new long[]{start, count};
+    }
+
+    private static void sendContent(ServletServerHttpRequest req, ServletServerHttpResponse res, StaticContentItem staticContentItem,
+                                    StaticContentItem.OpenContent content, String eTag) throws IOException {
+        long[] part = prepareContent(req, res, eTag, content.getLastModified(), content.getLength());
+        if (part == null) {
+            return;
+        }
+        long start = part[0];
+        long count = part[1];
+
+        // the container opens the file again by its name, which is only safe for versioned files as they never change
+        HttpServletRequest request = req.getServletRequest();
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && staticContentItem.isVersioned()
+                && staticContentItem.getContentFile() != null) {
+            // the container writes the file itself once the response is committed
+            request.setAttribute(SENDFILE_FILENAME, staticContentItem.getContentFile().getAbsolutePath());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        // a buffered copy: the response stream is no channel the operating system can transfer the file to directly
+        try (final OutputStream out = res.getBody()) {
+            content.transferTo(start, count, Channels.newChannel(out));
+        }
+    }
+
+    private static void sendContent(ServletServerHttpRequest req, ServletServerHttpResponse res, StaticContentHotCache.Asset asset)
+            throws IOException {
+        long[] part = prepareContent(req, res, asset.eTag, asset.lastModified, asset.content.length);
+        if (part == null) {
+            return;
+        }
+        try (final OutputStream out = res.getBody()) {
+            out.write(asset.content, (int) part[0], (int) part[1]);
+        }
+    }
+
+    private static void sendAsset(ServletServerHttpRequest req, ServletServerHttpResponse res, StaticContentHotCache.Asset asset)
+            throws IOException {
+        res.getHeaders().setContentType(MediaType.parseMediaType(asset.contentType));
+        if (isToBeRefreshed(res,
+                req.getHeaders().getIfModifiedSince(),
+                req.getHeaders().getIfNoneMatch(),
+                asset.eTag,
+                asset.lastModified,
+                true,
+                false)) {
+            sendContent(req, res, asset);
+        }
+    }
+
     private static void fallbackForContentProvider(ServletServerHttpRequest request,
                                                    ServletServerHttpResponse response,
                                                    String requestPath,
@@ -129,22 +324,41 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
                 fallbackForContentProvider(req, res, requestPath, isPreview, null);
                 return false;
             }
+            String hotCacheKey = isPreview || !SYSTEM_VERSION_PATTERN.matcher(requestPath).find()
+                    ? null : localization.getId() + requestPath;
+            StaticContentHotCache.Asset asset = hotCacheKey == null ? null : hotCache.get(hotCacheKey);
+            if (asset != null) {
+                LOG.trace("Serving {} from memory", requestPath);
+                sendAsset(req, res, asset);
+                return false;
+            }
             try {
                 StaticContentItem staticContentItem = contentProvider.getStaticContent(requestPath,
                         localization.getId(),
                         localization.getPath());
-                res.getHeaders().setContentType(MediaType.parseMediaType(staticContentItem.getContentType()));
-
-                // http://stackoverflow.com/questions/1587667/should-http-304-not-modified-responses-contain-cache-control-headers
-                boolean toBeRefreshed = isToBeRefreshed(res,
-                        req.getHeaders().getIfModifiedSince(),
-                        staticContentItem.getLastModified(),
-                        staticContentItem.isVersioned(),
-                        isPreview);
-                if (toBeRefreshed) {
-                    try (final InputStream in = staticContentItem.getContent();
-                         final OutputStream out = res.getBody()) {
-                        IOUtils.copy(in, out);
+                // size, modification date and transferred bytes all come from the file as it is opened here
+                try (StaticContentItem.OpenContent content = staticContentItem.open()) {
+                    asset = hotCacheKey != null && staticContentItem.isVersioned() ?
+                            hotCache.put(hotCacheKey, staticContentItem, content) : null;
+                    if (asset != null) {
+                        sendAsset(req, res, asset);
+                        return false;
+                    }
+                    res.getHeaders().setContentType(MediaType.parseMediaType(staticContentItem.getContentType()));
+
+                    long lastModified = content.getLastModified();
+                    String eTag = isPreview ? null : eTag(lastModified, content.getLength());
+
+                    // http://stackoverflow.com/questions/1587667/should-http-304-not-modified-responses-contain-cache-control-headers
+                    boolean toBeRefreshed = isToBeRefreshed(res,
+                            req.getHeaders().getIfModifiedSince(),
+                            req.getHeaders().getIfNoneMatch(),
+                            eTag,
+                            lastModified,
+                            staticContentItem.isVersioned(),
+                            isPreview);
+                    if (toBeRefreshed) {
+                        sendContent(req, res, staticContentItem, content, eTag);
                     }
                 }
             } catch (StaticContentNotFoundException e) {
@@ -160,6 +374,58 @@ public class StaticContentInterceptor extends HandlerInterceptorAdapter {
         return false;
     }
 
+    /**
+     * Returns the share of lookups of versioned assets which have been served from memory.
+     *
+     * @return hit ratio between {@code 0} and {@code 1}, {@code 1} if there has been no lookup yet
+     */
+    public double getHotCacheHitRatio() {
+        return hotCache.stats().hitRate();
+    }
+
+    /**
+     * Returns how many lookups of versioned assets have been served from memory.
+     *
+     * @return number of hits
+     */
+    public long getHotCacheHits() {
+        return hotCache.stats().hitCount();
+    }
+
+    /**
+     * Returns how many lookups of versioned assets have not been served from memory.
+     *
+     * @return number of misses
+     */
+    public long getHotCacheMisses() {
+        return hotCache.stats().missCount();
+    }
+
+    /**
+     * Returns the total size of the versioned assets held in memory.
+     *
+     * @return size in bytes
+     */
+    public long getHotCacheBytes() {
+        return hotCache.bytes();
+    }
+
+    /**
+     * Returns how many versioned assets are held in memory.
+     *
+     * @return number of assets
+     */
+    public long getHotCacheSize() {
+        return hotCache.size();
+    }
+
+    /**
+     * Drops the versioned assets held in memory, for instance when a localization is refreshed.
+     */
+    public void clearHotCache() {
+        hotCache.clear();
+    }
+
     protected static String removeVersionNumber(String path) {
         return SYSTEM_VERSION_PATTERN.matcher(path).replaceFirst("/system/");
     }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sdl.webapp.common.api.content.ContentProvider;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
@@ -15,25 +16,38 @@ import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary;
+import com.sdl.webapp.common.impl.RequestContextPropagation;
 import com.sdl.webapp.common.impl.localization.semantics.JsonSchema;
 import com.sdl.webapp.common.impl.localization.semantics.JsonVocabulary;
 import com.sdl.webapp.common.util.InitializationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.sdl.webapp.common.impl.localization.semantics.SemanticsConverter.convertSemantics;
 
@@ -44,6 +58,11 @@ import static com.sdl.webapp.common.impl.localization.semantics.SemanticsConvert
  * The configuration of a localization is stored in a number of JSON files that are retrieved via the static content
  * provider.
  * </p>
+ * <p>
+ * The files of a localization are fetched concurrently, and so are several localizations created together with
+ * {@link #createLocalizations(Map)}. A thread waiting for a file which no worker has picked up yet fetches it itself,
+ * so creating localizations never waits for free workers.
+ * </p>
  */
 @Component
 public class LocalizationFactoryImpl implements LocalizationFactory {
@@ -78,43 +97,105 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Value("${dxa.localization.bootstrap.threads:8}")
+    private int bootstrapThreads;
+
+    private ThreadPoolExecutor bootstrapExecutor;
+
+    /**
+     * Starts the workers fetching configuration files. Files which no worker has started yet, also after shutdown,
+     * are fetched by the thread waiting for them.
+     */
+    @PostConstruct
+    public void initBootstrap() {
+        if (bootstrapThreads <= 0) {
+            return;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(bootstrapThreads, bootstrapThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("dxa-localization-bootstrap-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.DiscardPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        bootstrapExecutor = executor;
+    }
+
+    @PreDestroy
+    public void destroyBootstrap() {
+        if (bootstrapExecutor != null) {
+            bootstrapExecutor.shutdown();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Localization createLocalization(String id, String path) throws LocalizationFactoryException {
         LOG.debug("createLocalization: [{}] {}", id, path);
+        long start = System.currentTimeMillis();
 
         final LocalizationImpl.Builder builder = LocalizationImpl.newBuilder()
                 .setId(id)
                 .setPath(path);
 
-        loadMainConfiguration(id, path, builder);
-        loadVersion(id, path, builder);
-        loadResources(id, path, builder);
+        FutureTask<Map<String, String>> resources = fork(() -> parseJsonSubFiles(contentProvider,
+                parseJsonFileTree(contentProvider, RESOURCES_BOOTSTRAP_PATH, id, path), id, path));
 
-        final List<JsonSchema> semanticSchemas = parseJsonFileObject(contentProvider,
+        FutureTask<List<JsonSchema>> semanticSchemas = fork(() -> parseJsonFileObject(contentProvider,
                 SEMANTIC_SCHEMAS_PATH, id, path, new TypeReference<List<JsonSchema>>() {
-                });
+                }));
 
-        final List<JsonVocabulary> semanticVocabularies = parseJsonFileObject(contentProvider,
+        FutureTask<List<JsonVocabulary>> semanticVocabularies = fork(() -> parseJsonFileObject(contentProvider,
                 SEMANTIC_VOCABULARIES_PATH, id, path, new TypeReference<List<JsonVocabulary>>() {
-                });
+                }));
 
-        List<SemanticSchema> schemas = convertSemantics(semanticSchemas, semanticVocabularies);
-        SemanticSchema semanticSchema = getTopicSchema();
-        schemas.add(semanticSchema);
+        FutureTask<JsonNode> includes = fork(() -> parseJsonFileTree(contentProvider, INCLUDES_PATH, id, path));
+
+        try {
+            loadMainConfiguration(id, path, builder);
+            loadVersion(id, path, builder);
+            builder.addResources(join(resources));
 
-        builder.addSemanticSchemas(schemas);
+            List<SemanticSchema> schemas = convertSemantics(join(semanticSchemas), join(semanticVocabularies));
+            SemanticSchema semanticSchema = getTopicSchema();
+            schemas.add(semanticSchema);
 
-        loadIncludes(id, path, builder);
+            builder.addSemanticSchemas(schemas);
+
+            loadIncludes(join(includes), builder);
+        } catch (LocalizationFactoryException | RuntimeException e) {
+            cancelAll(Arrays.asList(resources, semanticSchemas, semanticVocabularies, includes));
+            throw e;
+        }
 
         final Localization localization = builder.build();
-        LOG.info("Localization: " + localization + " is created");
+        LOG.info("Localization: " + localization + " is created in " + (System.currentTimeMillis() - start) + " ms");
 
         return localization;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>The localizations are created concurrently.</p>
+     */
+    @Override
+    public Map<String, Localization> createLocalizations(Map<String, String> pathsById) {
+        long start = System.currentTimeMillis();
+        Map<String, FutureTask<Localization>> tasks = new LinkedHashMap<>();
+        pathsById.forEach((id, path) -> tasks.put(id, fork(() -> createLocalization(id, path))));
+
+        Map<String, Localization> localizations = new LinkedHashMap<>();
+        for (Map.Entry<String, FutureTask<Localization>> task : tasks.entrySet()) {
+            try {
+                localizations.put(task.getKey(), join(task.getValue()));
+            } catch (LocalizationFactoryException | RuntimeException e) {
+                LOG.warn("Could not create localization [" + task.getKey() + "] " + pathsById.get(task.getKey()), e);
+            }
+        }
+        LOG.info("Created {} of {} localizations in {} ms", localizations.size(), pathsById.size(), System.currentTimeMillis() - start);
+        return localizations;
+    }
+
     /**
      * This method creates specific Schema for Topics that are published from Docs and don't have any schema in Sites
      *
@@ -220,15 +301,7 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
         LOG.info("Version is not loaded at all for id: " + id);
     }
 
-    private void loadResources(String id, String path, LocalizationImpl.Builder builder)
-            throws LocalizationFactoryException {
-        final JsonNode resourcesRootNode = parseJsonFileTree(contentProvider, RESOURCES_BOOTSTRAP_PATH, id, path);
-        builder.addResources(parseJsonSubFiles(contentProvider, resourcesRootNode, id, path));
-    }
-
-    private void loadIncludes(String id, String path, LocalizationImpl.Builder builder)
-            throws LocalizationFactoryException {
-        final JsonNode includesRootNode = parseJsonFileTree(contentProvider, INCLUDES_PATH, id, path);
+    private void loadIncludes(JsonNode includesRootNode, LocalizationImpl.Builder builder) {
         final Iterator<Map.Entry<String, JsonNode>> i = includesRootNode.fields();
         while (i.hasNext()) {
             final Map.Entry<String, JsonNode> entry = i.next();
@@ -308,18 +381,76 @@ public class LocalizationFactoryImpl implements LocalizationFactory {
         if (filesNode == null) {
             return map;
         }
+        List<String> subFilePaths = new ArrayList<>();
+        List<FutureTask<JsonNode>> subFiles = new ArrayList<>();
         for (JsonNode subFileNode : filesNode) {
             final String subFilePath = subFileNode.asText();
             if (Strings.isNullOrEmpty(subFilePath)) {
                 continue;
             }
-            String prefix = subFilePath.substring(subFilePath.lastIndexOf('/') + 1, subFilePath.lastIndexOf('.') + 1);
-            Iterator<Map.Entry<String, JsonNode>> i = parseJsonFileTree(contentProvider, subFilePath, locId, locPath).fields();
-            while (i.hasNext()) {
-                final Map.Entry<String, JsonNode> entry = i.next();
-                map.put(prefix + entry.getKey(), entry.getValue().asText());
+            subFilePaths.add(subFilePath);
+            subFiles.add(fork(() -> parseJsonFileTree(contentProvider, subFilePath, locId, locPath)));
+        }
+        try {
+            for (int index = 0; index < subFiles.size(); index++) {
+                String subFilePath = subFilePaths.get(index);
+                String prefix = subFilePath.substring(subFilePath.lastIndexOf('/') + 1, subFilePath.lastIndexOf('.') + 1);
+                Iterator<Map.Entry<String, JsonNode>> i = join(subFiles.get(index)).fields();
+                while (i.hasNext()) {
+                    final Map.Entry<String, JsonNode> entry = i.next();
+                    map.put(prefix + entry.getKey(), entry.getValue().asText());
+                }
             }
+        } catch (LocalizationFactoryException | RuntimeException e) {
+            cancelAll(subFiles);
+            throw e;
         }
         return map;
     }
-}
\ No newline at end of file
+
+    /**
+     * Starts the task on a worker, with the snapshot of the current request but never its request scope,
+     * see {@link RequestContextPropagation}.
+     */
+    private <T> FutureTask<T> fork(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(RequestContextPropagation.capture().bind(task));
+        if (bootstrapExecutor != null) {
+            bootstrapExecutor.execute(future);
+        }
+        return future;
+    }
+
+    /**
+     * Waits for the result of the task, running it in the current thread if no worker has started it yet.
+     */
+    private static <T> T join(FutureTask<T> future) throws LocalizationFactoryException {
+        future.run();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LocalizationFactoryException("Interrupted while reading configuration of localization", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof LocalizationFactoryException) {
+                throw (LocalizationFactoryException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new LocalizationFactoryException("Exception while reading configuration of localization", cause);
+        }
+    }
+
+    /**
+     * Cancels the tasks of a failed localization, interrupting those which have already started.
+     */
+    private static void cancelAll(List<? extends FutureTask<?>> tasks) {
+        for (FutureTask<?> task : tasks) {
+            task.cancel(true);
+        }
+    }
+}
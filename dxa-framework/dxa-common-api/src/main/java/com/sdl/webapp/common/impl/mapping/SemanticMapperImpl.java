@@ -1,5 +1,9 @@
 package com.sdl.webapp.common.impl.mapping;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
 import com.sdl.webapp.common.api.mapping.semantic.FieldData;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticFieldDataProvider;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
@@ -8,11 +12,13 @@ import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
 import com.sdl.webapp.common.api.mapping.semantic.config.EntitySemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticFieldIndex;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
 import com.sdl.webapp.common.api.model.KeywordModel;
 import com.sdl.webapp.common.api.model.RichText;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
+import com.sdl.webapp.common.util.InstantiationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,13 +26,23 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Component
 public class SemanticMapperImpl implements SemanticMapper {
@@ -39,6 +55,16 @@ public class SemanticMapperImpl implements SemanticMapper {
 
     private final SemanticMappingRegistry registry;
 
+    private final ConcurrentMap<Class<?>, List<MappedField>> mappedFields = new ConcurrentHashMap<>();
+
+    /**
+     * Object standing for the localization of semantic schemas which have none.
+     */
+    private static final Object NO_LOCALIZATION = new Object();
+
+    private final LoadingCache<Object, LocalizationMappings> localizationMappings =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(localization -> new LocalizationMappings()));
+
     /**
      * <p>Constructor for SemanticMapperImpl.</p>
      *
@@ -57,14 +83,17 @@ public class SemanticMapperImpl implements SemanticMapper {
             throw new SemanticMappingException("Cannot create entity because entity class is null, have you added all modules you need?");
         }
         try {
-            return entityClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            return InstantiationUtils.newInstance(entityClass);
+        } catch (InstantiationException e) {
             throw new SemanticMappingException("Exception while creating instance of entity class: " +
                     entityClass.getName(), e);
         }
     }
 
     private static SemanticField findFieldForGivenSemantics(Map<FieldSemantics, SemanticField> fields, FieldSemantics semantics) {
+        if (fields instanceof SemanticFieldIndex) {
+            return ((SemanticFieldIndex) fields).find(semantics);
+        }
 
         SemanticField field = fields.get(semantics);
 
@@ -115,29 +144,24 @@ public class SemanticMapperImpl implements SemanticMapper {
                                                          T entity) {
         final Map<String, String> xpmPropertyMetadata = new HashMap<>();
 
+        SemanticSchema semanticSchema = fieldDataProvider.getSemanticSchema();
+        LocalizationMappings mappings = getLocalizationMappings(semanticSchema);
+        long schemaId = semanticSchema == null ? 0 : semanticSchema.getId();
+
         // Map all the fields (including fields inherited from superclasses) of the entity
-        ReflectionUtils.doWithFields(entityClass, field -> {
-            // Find the semantics for this field
-            final Set<FieldSemantics> registrySemantics = registry.getFieldSemantics(field);
-            if (LOG.isTraceEnabled() && !registrySemantics.isEmpty()) {
-                LOG.trace("field: {}", field);
+        for (FieldMapping mapping : getMappingPlan(mappings, schemaId, entityClass, semanticFields)) {
+            final MappedField field = mapping.field;
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("field: {}", field.field);
             }
 
-            boolean foundMatch = false;
-
-            // Try getting data using each of the field semantics in order
-            for (FieldSemantics fieldSemantics : registrySemantics) {
-                // Find the matching semantic field
-                final SemanticField semanticField = findFieldForGivenSemantics(semanticFields, fieldSemantics);
-                if (semanticField == null) {
-                    continue;
-                }
-                foundMatch = true;
+            // Try getting data using each of the matching field semantics in order
+            for (SemanticMatch match : mapping.matches) {
                 if (LOG.isTraceEnabled()) {
-                    LOG.trace("Match found: {} -> {}", fieldSemantics, semanticField);
+                    LOG.trace("Match found: {} -> {}", match.fieldSemantics, match.semanticField);
                 }
                 try {
-                    FieldData fieldData = fieldDataProvider.getFieldData(semanticField, new TypeDescriptor(field));
+                    FieldData fieldData = fieldDataProvider.getFieldData(match.semanticField, field.typeDescriptor);
                     String xPath = null;
                     boolean isFieldSet = false;
                     if (fieldData != null) {
@@ -150,32 +174,34 @@ public class SemanticMapperImpl implements SemanticMapper {
                     }
 
                     if (xPath == null) {
-                        xPath = semanticField.getXPath("");
+                        xPath = match.semanticField.getXPath("");
                     }
 
-                    if (findFieldForGivenSemantics(fieldDataProvider.getSemanticSchema().getSemanticFields(), fieldSemantics) != null) {
-                        xpmPropertyMetadata.put(field.getName(), xPath);
+                    if (hasFieldForGivenSemantics(mappings, semanticSchema, match.fieldSemantics)) {
+                        xpmPropertyMetadata.put(field.field.getName(), xPath);
                     }
                     if (isFieldSet) {
                         break;
                     }
                 } catch (SemanticMappingException e) {
-                    LOG.error("Exception while getting field data for: " + field, e);
+                    LOG.error("Exception while getting field data for: " + field.field, e);
                 }
             }
 
+            boolean foundMatch = !mapping.matches.isEmpty();
+
             // Special cases - only try these when nothing was found yet
             if (!foundMatch) {
-                foundMatch = setDefaultValueToField(fieldDataProvider, entity, field, registrySemantics, foundMatch);
+                foundMatch = setDefaultValueToField(fieldDataProvider, entity, field);
             }
 
-            if (LOG.isDebugEnabled() && !foundMatch && !registrySemantics.isEmpty()) {
+            if (LOG.isDebugEnabled() && !foundMatch) {
                 // This not necessarily means there is a problem; for some components in the input, not all fields
                 // of the entity are mapped
                 LOG.debug("No match found for field: {}; registry semantics: {} did not match with supplied " +
-                        "semantics: {}", field, registrySemantics, semanticFields);
+                        "semantics: {}", field.field, field.semantics, semanticFields);
             }
-        });
+        }
 
         // Set property data (used for semantic markup)
         if (AbstractEntityModel.class.isAssignableFrom(entity.getClass())) {
@@ -187,8 +213,66 @@ public class SemanticMapperImpl implements SemanticMapper {
         }
     }
 
-    private <T extends ViewModel> boolean setDefaultValueToField(SemanticFieldDataProvider fieldDataProvider, T entity, Field field, Set<FieldSemantics> registrySemantics, boolean foundMatch) throws IllegalAccessException {
-        for (FieldSemantics fieldSemantics : registrySemantics) {
+    /**
+     * Returns the mappings of the localization of the schema. They are kept as long as the localization is loaded,
+     * since its semantic schemas don't change until the localization is loaded again.
+     */
+    private LocalizationMappings getLocalizationMappings(SemanticSchema semanticSchema) {
+        Object localization = semanticSchema == null ? null : semanticSchema.getLocalization();
+        return localizationMappings.getUnchecked(localization == null ? NO_LOCALIZATION : localization);
+    }
+
+    /**
+     * Returns the fields of the class matched with the given semantic fields, resolved once per schema, semantic fields
+     * and class. Localizations may create the maps of semantic fields anew on each call, so the plans are found by the
+     * schema ID and by the semantics and paths of the fields rather than by the maps themselves.
+     */
+    private List<FieldMapping> getMappingPlan(LocalizationMappings mappings, long schemaId, Class<?> entityClass,
+                                              Map<FieldSemantics, SemanticField> semanticFields) {
+        PlanKey key = new PlanKey(schemaId, entityClass, semanticFields);
+        List<FieldMapping> plan = mappings.plans.get(key);
+        if (plan == null) {
+            plan = new ArrayList<>();
+            for (MappedField field : getMappedFields(entityClass)) {
+                List<SemanticMatch> matches = new ArrayList<>();
+                for (FieldSemantics fieldSemantics : field.semantics) {
+                    SemanticField semanticField = findFieldForGivenSemantics(semanticFields, fieldSemantics);
+                    if (semanticField != null) {
+                        matches.add(new SemanticMatch(fieldSemantics, semanticField));
+                    }
+                }
+                plan.add(new FieldMapping(field, matches));
+            }
+            mappings.plans.putIfAbsent(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the fields of the class (including fields inherited from superclasses) which have semantics.
+     */
+    private List<MappedField> getMappedFields(Class<?> entityClass) {
+        return mappedFields.computeIfAbsent(entityClass, aClass -> {
+            List<MappedField> fields = new ArrayList<>();
+            ReflectionUtils.doWithFields(aClass, field -> {
+                Set<FieldSemantics> registrySemantics = registry.getFieldSemantics(field);
+                if (!registrySemantics.isEmpty()) {
+                    fields.add(new MappedField(field, registrySemantics));
+                }
+            });
+            return fields;
+        });
+    }
+
+    private boolean hasFieldForGivenSemantics(LocalizationMappings mappings, SemanticSchema semanticSchema, FieldSemantics semantics) {
+        return mappings.schemaLookups
+                .computeIfAbsent(semanticSchema.getId(), schemaId -> new ConcurrentHashMap<>())
+                .computeIfAbsent(semantics, fieldSemantics -> findFieldForGivenSemantics(semanticSchema.getSemanticFields(), fieldSemantics) != null);
+    }
+
+    private <T extends ViewModel> boolean setDefaultValueToField(SemanticFieldDataProvider fieldDataProvider, T entity, MappedField field) {
+        boolean foundMatch = false;
+        for (FieldSemantics fieldSemantics : field.semantics) {
             final String propertyName = fieldSemantics.getPropertyName();
             try {
                 SemanticSchema semanticSchema = fieldDataProvider.getSemanticSchema();
@@ -196,9 +280,8 @@ public class SemanticMapperImpl implements SemanticMapper {
                     (semanticSchema == null ||
                      semanticSchema.hasSemantics(new EntitySemantics(fieldSemantics.getVocabulary(), fieldSemantics.getEntityName())))) {
                     foundMatch = true;
-                    Object fieldData = fieldDataProvider.getSelfFieldData(new TypeDescriptor(field));
+                    Object fieldData = fieldDataProvider.getSelfFieldData(field.typeDescriptor);
                     if (fieldData != null) {
-                        field.setAccessible(true);
                         field.set(entity, fieldData);
                         break;
                     }
@@ -207,30 +290,28 @@ public class SemanticMapperImpl implements SemanticMapper {
                     foundMatch = true;
 
                     Map<String, ?> fieldData = null;
-                    if (IsTypeOfMap(String.class, KeywordModel.class, field)) {
+                    if (field.keywordMap) {
                         fieldData = fieldDataProvider.getAllFieldData(KeywordModel.class);
                     } else {
                         fieldData = fieldDataProvider.getAllFieldData(String.class);
                     }
                     if (fieldData != null) {
-                        field.setAccessible(true);
                         field.set(entity, fieldData);
                         break;
                     }
                 }
             } catch (SemanticMappingException e) {
-                LOG.error("Exception while setting property [" + propertyName + "] data for: " + field, e);
+                LOG.error("Exception while setting property [" + propertyName + "] data for: " + field.field, e);
             }
         }
         return foundMatch;
     }
 
-    private <T extends ViewModel> void setValueToField(T entity, Field field, Object fieldValue) throws IllegalAccessException {
+    private <T extends ViewModel> void setValueToField(T entity, MappedField field, Object fieldValue) {
         if (LOG.isTraceEnabled()) {
-            LOG.trace("Setting field value: {} -> {}", field.getName(), fieldValue);
+            LOG.trace("Setting field value: {} -> {}", field.field.getName(), fieldValue);
         }
-        field.setAccessible(true);
-        if (field.getType().equals(RichText.class) && fieldValue.getClass().equals(String.class)) {
+        if (field.richText && fieldValue.getClass().equals(String.class)) {
             field.set(entity, new RichText((String) fieldValue));
         } else {
             field.set(entity, fieldValue);
@@ -247,4 +328,145 @@ public class SemanticMapperImpl implements SemanticMapper {
 
         return key == mapKeyType && value == mapValueType;
     }
+
+    /**
+     * Entity field which has semantics, with everything needed to set its value prepared once.
+     */
+    private static final class MappedField {
+
+        private final Field field;
+
+        private final Set<FieldSemantics> semantics;
+
+        private final TypeDescriptor typeDescriptor;
+
+        private final MethodHandle setter;
+
+        private final boolean richText;
+
+        private final boolean keywordMap;
+
+        private MappedField(Field field, Set<FieldSemantics> semantics) {
+            field.setAccessible(true);
+            this.field = field;
+            this.semantics = ImmutableSet.copyOf(semantics);
+            this.typeDescriptor = new TypeDescriptor(field);
+            this.setter = setterOf(field);
+            this.richText = field.getType().equals(RichText.class);
+            this.keywordMap = IsTypeOfMap(String.class, KeywordModel.class, field);
+        }
+
+        private static MethodHandle setterOf(Field field) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                return null;
+            }
+            try {
+                return MethodHandles.lookup().unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                LOG.debug("Cannot create setter for field {}, falling back to reflection", field, e);
+                return null;
+            }
+        }
+
+        private void set(Object entity, Object value) {
+            try {
+                if (setter == null) {
+                    field.set(entity, value);
+                } else {
+                    setter.invokeExact(entity, value);
+                }
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("Can not set " + field + " to " + value.getClass().getName(), e);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Not allowed to access field '" + field.getName() + "': " + e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+    }
+
+    /**
+     * Field of an entity class with the semantic fields of a schema its semantics match, in the order of the semantics.
+     */
+    private static final class FieldMapping {
+
+        private final MappedField field;
+
+        private final List<SemanticMatch> matches;
+
+        private FieldMapping(MappedField field, List<SemanticMatch> matches) {
+            this.field = field;
+            this.matches = matches;
+        }
+    }
+
+    /**
+     * Mapping plans and lookups of the semantic schemas of a localization.
+     */
+    private static final class LocalizationMappings {
+
+        private final ConcurrentMap<PlanKey, List<FieldMapping>> plans = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<Long, ConcurrentMap<FieldSemantics, Boolean>> schemaLookups = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Schema ID, entity class and the semantics and paths of the semantic fields a plan is made for. The path of a field
+     * identifies it within its schema, so equal keys stand for equal semantic fields.
+     */
+    private static final class PlanKey {
+
+        private final long schemaId;
+
+        private final Class<?> entityClass;
+
+        private final Object[] fields;
+
+        private final int hashCode;
+
+        private PlanKey(long schemaId, Class<?> entityClass, Map<FieldSemantics, SemanticField> semanticFields) {
+            this.schemaId = schemaId;
+            this.entityClass = entityClass;
+            this.fields = new Object[semanticFields.size() * 2];
+            int i = 0;
+            for (Map.Entry<FieldSemantics, SemanticField> entry : semanticFields.entrySet()) {
+                fields[i++] = entry.getKey();
+                fields[i++] = entry.getValue().getPath();
+            }
+            this.hashCode = 31 * (31 * Long.hashCode(schemaId) + entityClass.hashCode()) + Arrays.hashCode(fields);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey other = (PlanKey) o;
+            return hashCode == other.hashCode && schemaId == other.schemaId && entityClass == other.entityClass
+                    && Arrays.equals(fields, other.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class SemanticMatch {
+
+        private final FieldSemantics fieldSemantics;
+
+        private final SemanticField semanticField;
+
+        private SemanticMatch(FieldSemantics fieldSemantics, SemanticField semanticField) {
+            this.fieldSemantics = fieldSemantics;
+            this.semanticField = semanticField;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.sdl.webapp.common.markup;
 import com.sdl.dxa.caching.CompositeOutputCacheKeyBase;
 import com.sdl.dxa.caching.LocalizationAwareCacheKey;
 import com.sdl.dxa.caching.wrapper.OutputCache;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.model.ViewModel;
 import com.sdl.webapp.common.controller.ControllerUtils;
@@ -95,7 +96,7 @@ public class AbstractMarkupTag extends TagSupport {
             Optional<CompositeOutputCacheKeyBase> optionalKey = getCacheKey(include, model);
             specificKey = (LocalizationAwareCacheKey) optionalKey.map(outputCache::getSpecificKey).orElse(null);
 
-            cacheAccessible = optionalKey.isPresent() && !getWebRequestContext().isSessionPreview();
+            cacheAccessible = optionalKey.isPresent() && !RequestSnapshot.from(pageContext.getRequest()).isSessionPreview();
 
             if (cacheAccessible) {
                 HtmlNode cachedNode = outputCache.get(specificKey);
@@ -0,0 +1,153 @@
+package com.sdl.webapp.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utils class for creating instances of view models without reflection on every call.
+ * <p>Constructors are looked up once per class and bound to a {@link Supplier} or {@link Function} generated with
+ * {@link LambdaMetafactory}, so calling them costs the same as a regular constructor call. Classes which constructors
+ * are not accessible from here (e.g. not public) are instantiated through {@link Constructor#newInstance} instead.</p>
+ */
+@Slf4j
+public final class InstantiationUtils {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Supplier<?>> NO_ARG_CONSTRUCTORS = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            Constructor<?> constructor = findConstructor(type);
+            return constructor == null ? null : bind(constructor, Supplier.class, "get", MethodType.methodType(Object.class));
+        }
+    };
+
+    private static final ClassValue<Function<String, ?>> STRING_CONSTRUCTORS = new ClassValue<Function<String, ?>>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Function<String, ?> computeValue(Class<?> type) {
+            Constructor<?> constructor = findConstructor(type, String.class);
+            return constructor == null ? null : bind(constructor, Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+        }
+    };
+
+    private InstantiationUtils() {
+    }
+
+    /**
+     * Creates a new instance of the class using its no-argument constructor.
+     *
+     * @param type class to instantiate
+     * @param <T>  type of the instance
+     * @return new instance
+     * @throws InstantiationException if the class is abstract or has no no-argument constructor
+     */
+    @NotNull
+    public static <T> T newInstance(@NotNull Class<T> type) throws InstantiationException {
+        Supplier<?> constructor = NO_ARG_CONSTRUCTORS.get(type);
+        if (constructor == null) {
+            throw new InstantiationException("Class " + type.getName() + " cannot be instantiated with a no-argument constructor");
+        }
+        return type.cast(constructor.get());
+    }
+
+    /**
+     * Creates a new instance of the class using its constructor with a single {@link String} argument.
+     *
+     * @param type     class to instantiate
+     * @param argument constructor argument
+     * @param <T>      type of the instance
+     * @return new instance
+     * @throws NoSuchMethodException if the class is abstract or has no constructor with a single {@link String} argument
+     */
+    @NotNull
+    public static <T> T newInstance(@NotNull Class<T> type, String argument) throws NoSuchMethodException {
+        Function<String, ?> constructor = STRING_CONSTRUCTORS.get(type);
+        if (constructor == null) {
+            throw new NoSuchMethodException("Class " + type.getName() + " has no constructor with a single String argument");
+        }
+        return type.cast(constructor.apply(argument));
+    }
+
+    private static Constructor<?> findConstructor(Class<?> type, Class<?>... parameterTypes) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F> F bind(Constructor<?> constructor, Class<F> functionalInterface, String methodName, MethodType erasedType) {
+        Class<?> type = constructor.getDeclaringClass();
+        MethodType instantiatedType = MethodType.methodType(type, constructor.getParameterTypes());
+        try {
+            if (isAccessible(constructor)) {
+                MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, methodName,
+                        MethodType.methodType(functionalInterface), erasedType, handle, instantiatedType);
+                return (F) callSite.getTarget().invoke();
+            }
+        } catch (Throwable e) {
+            log.debug("Cannot generate constructor function for {}, falling back to reflection", type, e);
+        }
+
+        constructor.setAccessible(true);
+        return (F) (constructor.getParameterCount() == 0 ?
+                (Supplier<Object>) () -> newInstance(constructor) :
+                (Function<Object, Object>) argument -> newInstance(constructor, argument));
+    }
+
+    /**
+     * Generated functions are defined next to this class, so they only work for public constructors of public classes
+     * visible to the class loader of this class.
+     */
+    private static boolean isAccessible(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        if (!Modifier.isPublic(constructor.getModifiers())) {
+            return false;
+        }
+        for (Class<?> cls = type; cls != null; cls = cls.getEnclosingClass()) {
+            if (!Modifier.isPublic(cls.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(type.getName(), false, InstantiationUtils.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Object newInstance(Constructor<?> constructor, Object... arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new IllegalStateException("Constructor " + constructor + " cannot be called", e);
+        }
+    }
+}
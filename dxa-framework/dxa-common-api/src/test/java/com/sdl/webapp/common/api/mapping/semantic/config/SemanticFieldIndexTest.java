@@ -0,0 +1,100 @@
+package com.sdl.webapp.common.api.mapping.semantic.config;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SCHEMA_ORG_VOCABULARY;
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SemanticFieldIndexTest {
+
+    private static final FieldSemantics HEADLINE = new FieldSemantics(SDL_CORE_VOCABULARY, "Article", "headline");
+
+    private static final FieldSemantics DATE = new FieldSemantics(SDL_CORE_VOCABULARY, "Article", "date");
+
+    private static final FieldSemantics STANDARD_DATE = new FieldSemantics(SDL_CORE_VOCABULARY, "StandardMetadata", "date");
+
+    private static final FieldSemantics SUBHEADING = new FieldSemantics(SCHEMA_ORG_VOCABULARY, "Paragraph", "subheading");
+
+    @Test
+    public void shouldFindFieldByExactSemantics() {
+        //given
+        SemanticField headline = field("headline");
+        SemanticFieldIndex index = SemanticFieldIndex.of(ImmutableMap.of(HEADLINE, headline));
+
+        //when
+        SemanticField found = index.find(HEADLINE);
+
+        //then
+        assertSame(headline, found);
+        assertNull(index.find(DATE));
+        assertEquals(ImmutableMap.of(HEADLINE, headline), index);
+    }
+
+    @Test
+    public void shouldFindStandardMetadataFieldByPropertyName() {
+        //given
+        SemanticField standardDate = field("standardDate");
+        SemanticFieldIndex index = SemanticFieldIndex.of(ImmutableMap.of(STANDARD_DATE, standardDate));
+
+        //when
+        SemanticField found = index.find(DATE);
+
+        //then
+        assertSame(standardDate, found);
+    }
+
+    @Test
+    public void shouldPreferOwnFieldsToEmbeddedFields() {
+        //given
+        SemanticField embeddedDate = field("embeddedDate");
+        SemanticField standardDate = field("standardDate");
+        SemanticField body = new SemanticField("body", "/Article/body", true, ImmutableMap.of(DATE, embeddedDate));
+        SemanticFieldIndex index = SemanticFieldIndex.of(ImmutableMap.of(HEADLINE, body, STANDARD_DATE, standardDate));
+
+        //when
+        SemanticField found = index.find(DATE);
+
+        //then
+        assertSame(standardDate, found);
+    }
+
+    @Test
+    public void shouldFindEmbeddedFieldsDepthFirst() {
+        //given
+        SemanticField deepSubheading = field("deepSubheading");
+        SemanticField subheading = field("subheading");
+        SemanticField section = new SemanticField("section", "/Article/section", false, ImmutableMap.of(SUBHEADING, deepSubheading));
+        SemanticField first = new SemanticField("first", "/Article/first", false, ImmutableMap.of(DATE, section));
+        SemanticField second = new SemanticField("second", "/Article/second", false, ImmutableMap.of(SUBHEADING, subheading));
+        Map<FieldSemantics, SemanticField> fields = ImmutableMap.of(HEADLINE, first, STANDARD_DATE, second);
+
+        //when
+        SemanticField found = SemanticFieldIndex.of(fields).find(SUBHEADING);
+
+        //then
+        assertSame(deepSubheading, found);
+    }
+
+    @Test
+    public void shouldNotIndexTwice() {
+        //given
+        SemanticFieldIndex index = SemanticFieldIndex.of(Collections.emptyMap());
+
+        //when
+        SemanticFieldIndex same = SemanticFieldIndex.of(index);
+
+        //then
+        assertSame(index, same);
+    }
+
+    private static SemanticField field(String name) {
+        return new SemanticField(name, "/Article/" + name, false, Collections.emptyMap());
+    }
+}
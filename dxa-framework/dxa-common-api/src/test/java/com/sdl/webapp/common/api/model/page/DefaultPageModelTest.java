@@ -6,8 +6,11 @@ import com.sdl.dxa.DxaSpringInitialization;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.formatters.support.FeedItem;
 import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.model.EntityModel;
+import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.api.model.RegionModel;
 import com.sdl.webapp.common.api.model.RegionModelSet;
+import com.sdl.webapp.common.api.model.TestEntity;
 import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
 import com.sdl.webapp.common.api.model.region.RegionModelImpl;
 import com.sdl.webapp.common.api.model.region.RegionModelSetImpl;
@@ -27,6 +30,8 @@ import java.util.regex.Pattern;
 
 import static com.sdl.webapp.common.api.model.TestEntity.entity;
 import static com.sdl.webapp.common.api.model.TestEntity.feedItem;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -258,4 +263,31 @@ public class DefaultPageModelTest {
         verify(regionModel).filterConditionalEntities(eq(evaluators));
         verify(regionModel2).filterConditionalEntities(eq(evaluators));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldFilterCopyWithoutModifyingOriginalPage() throws Exception {
+        //given
+        DefaultPageModel page = new DefaultPageModel();
+        RegionModelSetImpl regions = new RegionModelSetImpl();
+        page.setRegions(regions);
+        RegionModelImpl region = new RegionModelImpl("region");
+        regions.add(region);
+        EntityModel kept = new TestEntity.TestEntityNoFeed();
+        EntityModel removed = new TestEntity.TestEntityNoFeed();
+        region.addEntity(kept);
+        region.addEntity(removed);
+
+        ConditionalEntityEvaluator evaluator = entity -> entity != removed;
+
+        //when
+        PageModel copy = page.filteredCopy(Collections.singletonList(evaluator));
+
+        //then
+        assertNotSame(page, copy);
+        RegionModel copiedRegion = copy.getRegions().get("region");
+        assertNotSame(region, copiedRegion);
+        assertEquals(1, copiedRegion.getEntities().size());
+        assertSame(kept, copiedRegion.getEntities().get(0));
+        assertEquals(2, region.getEntities().size());
+    }
+}
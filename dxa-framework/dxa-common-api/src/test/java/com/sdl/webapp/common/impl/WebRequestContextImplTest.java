@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.impl;
 
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationNotFoundException;
@@ -7,6 +8,7 @@ import com.sdl.webapp.common.api.localization.LocalizationNotResolvedException;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import com.sdl.webapp.common.api.localization.LocalizationResolverException;
 import com.sdl.webapp.common.api.localization.UnknownLocalizationHandler;
+import com.sdl.webapp.common.impl.interceptor.RequestSnapshotFilter;
 import com.sdl.webapp.common.impl.localization.LocalizationImpl;
 import org.junit.Before;
 import org.junit.Test;
@@ -14,19 +16,30 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.servlet.ServletRequest;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -194,4 +207,106 @@ public class WebRequestContextImplTest {
         //then
         assertEquals("http://localhost:8080", baseUrl);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReturnBaseUrl_IfRequestUriHasRegexCharacters() {
+        //given
+        when(servletRequest.getRequestURL()).thenReturn(new StringBuffer("http://localhost:8080/context/search+results(1).html"));
+        when(servletRequest.getRequestURI()).thenReturn("/context/search+results(1).html");
+
+        //when
+        String baseUrl = webRequestContext.getBaseUrl();
+
+        //then
+        assertEquals("http://localhost:8080", baseUrl);
+    }
+
+    @Test
+    public void shouldReadPreviewTokenAndContextCookieOnce() {
+        //given
+        when(servletRequest.getCookies()).thenReturn(new Cookie[]{
+                new Cookie("context", "dw~1024"), new Cookie("preview-session-token", "token")});
+
+        //when
+        boolean sessionPreview = webRequestContext.isSessionPreview();
+        String previewToken = webRequestContext.getPreviewToken();
+        boolean contextCookiePresent = webRequestContext.isContextCookiePresent();
+
+        //then
+        assertTrue(sessionPreview);
+        assertEquals("token", previewToken);
+        assertTrue(contextCookiePresent);
+        verify(servletRequest, times(1)).getCookies();
+    }
+
+    @Test
+    public void shouldReadPreviewTokenFromHeader() {
+        //given
+        when(servletRequest.getHeader("x-preview-session-token")).thenReturn("token");
+
+        //when
+        String previewToken = webRequestContext.getPreviewToken();
+
+        //then
+        assertEquals("token", previewToken);
+    }
+
+    @Test
+    public void shouldUseSnapshotOfRequestFilter() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/context/publication/request");
+        request.setContextPath("/context");
+        new RequestSnapshotFilter().doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        when(servletRequest.getAttribute(RequestSnapshot.ATTRIBUTE)).thenReturn(request.getAttribute(RequestSnapshot.ATTRIBUTE));
+        Localization localization = mock(Localization.class);
+        when(localizationResolver.getLocalization("http://localhost/context/publication/request")).thenReturn(localization);
+
+        //when
+        String fullUrl = webRequestContext.getFullUrl();
+        RequestSnapshot snapshot = webRequestContext.getSnapshot();
+
+        //then
+        assertEquals("http://localhost/context/publication/request", fullUrl);
+        assertEquals("http://localhost/context/publication/request", snapshot.getFullUrl());
+        assertSame(localization, snapshot.getLocalization());
+        assertFalse(snapshot.isSessionPreview());
+        verify(servletRequest, never()).getRequestURL();
+    }
+
+    @Test
+    public void shouldTakeLocalizationFromSnapshot() throws Exception {
+        //given
+        Localization localization = mock(Localization.class);
+        RequestSnapshot snapshot = RequestSnapshot.builder()
+                .baseUrl("http://localhost").contextPath("").requestPath("/")
+                .localization(localization)
+                .build();
+        when(servletRequest.getAttribute(RequestSnapshot.ATTRIBUTE)).thenReturn(snapshot);
+
+        //when
+        Localization result = webRequestContext.getLocalization();
+
+        //then
+        assertSame(localization, result);
+        assertSame(snapshot, webRequestContext.getSnapshot());
+        verify(localizationResolver, never()).getLocalization(anyString());
+    }
+
+    @Test
+    public void shouldNotReadServletRequestOutsideOfRequest() {
+        //given
+        RequestContextHolder.setRequestAttributes(new DetachedRequestAttributes());
+
+        //when
+        try {
+            webRequestContext.getFullUrl();
+        } catch (IllegalStateException e) {
+            //then
+            verifyZeroInteractions(servletRequest);
+            return;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        fail("Request snapshot is expected to be missing");
+    }
+}
@@ -1,5 +1,6 @@
 package com.sdl.webapp.common.impl.contextengine;
 
+import com.google.common.collect.ImmutableMap;
 import com.sdl.webapp.common.exceptions.DxaException;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
@@ -11,6 +12,7 @@ import static com.sdl.webapp.common.impl.contextengine.Claims.alienDeviceClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.appleClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.desktopClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.featurePhoneClaims;
+import static com.sdl.webapp.common.impl.contextengine.Claims.getClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.smartPhoneClaims;
 import static com.sdl.webapp.common.impl.contextengine.Claims.tabletClaims;
 import static org.junit.Assert.assertEquals;
@@ -44,6 +46,43 @@ public class DeviceFamiliesEvaluatorTest {
         shouldResolveDeviceFamily("apple", appleClaims());
     }
 
+    @Test
+    public void shouldDefineDeviceFamilyForEveryClaimsSet_WhenReused() {
+        //given
+        DeviceFamiliesEvaluator evaluator = deviceFamiliesEvaluator(true);
+
+        //when
+        String smartPhone = evaluator.defineDeviceFamily(smartPhoneClaims());
+        String featurePhone = evaluator.defineDeviceFamily(featurePhoneClaims());
+        String smartPhoneAgain = evaluator.defineDeviceFamily(smartPhoneClaims());
+        String none = evaluator.defineDeviceFamily(getClaims("device.displayWidth", 330));
+        String noneAgain = evaluator.defineDeviceFamily(getClaims("device.displayWidth", 330));
+
+        //then
+        assertEquals("smartphone", smartPhone);
+        assertEquals("featurephone", featurePhone);
+        assertEquals("smartphone", smartPhoneAgain);
+        assertNull(none);
+        assertNull(noneAgain);
+    }
+
+    @Test
+    public void shouldCastClaimsToTypeOfCondition() {
+        //given
+        DeviceFamiliesEvaluator evaluator = deviceFamiliesEvaluator(true);
+        Map<String, Object> claims = ImmutableMap.<String, Object>builder()
+                .put("device.mobile", true)
+                .put("device.tablet", false)
+                .put("device.displayWidth", 330L)
+                .build();
+
+        //when
+        String deviceFamily = evaluator.defineDeviceFamily(claims);
+
+        //then
+        assertEquals("smartphone", deviceFamily);
+    }
+
     @Test
     public void shouldReturnNullIfNoDeviceFamiliesRules() {
         //given
@@ -0,0 +1,279 @@
+package com.sdl.webapp.common.impl.interceptor;
+
+import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.localization.Localization;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StaticContentInterceptorTest {
+
+    private static final String PATH = "/media/file.txt";
+
+    private static final String VERSIONED_PATH = "/system/v1.2/assets/main.css";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private ContentProvider contentProvider;
+
+    @Mock
+    private WebRequestContext webRequestContext;
+
+    @Mock
+    private Localization localization;
+
+    @InjectMocks
+    private StaticContentInterceptor interceptor = new StaticContentInterceptor();
+
+    private File file;
+
+    @Before
+    public void init() throws Exception {
+        file = folder.newFile("file.txt");
+        Files.write(file.toPath(), "0123456789".getBytes(StandardCharsets.UTF_8));
+
+        when(webRequestContext.getRequestPath()).thenReturn(PATH);
+        when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(localization.getId()).thenReturn("1");
+        when(localization.getPath()).thenReturn("/");
+        when(localization.isStaticContent(PATH)).thenReturn(true);
+        when(contentProvider.getStaticContent(PATH, "1", "/")).thenReturn(new StaticContentItem("text/plain", file, false));
+    }
+
+    private void givenVersionedAsset() throws Exception {
+        when(webRequestContext.getRequestPath()).thenReturn(VERSIONED_PATH);
+        when(localization.isStaticContent(VERSIONED_PATH)).thenReturn(true);
+        when(contentProvider.getStaticContent(VERSIONED_PATH, "1", "/")).thenReturn(new StaticContentItem("text/css", file, true));
+    }
+
+    @Test
+    public void shouldServeVersionedAssetFromMemory() throws Exception {
+        //given
+        givenVersionedAsset();
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), false);
+        Files.delete(file.toPath());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(new MockHttpServletRequest(), response, false);
+
+        //then
+        verify(contentProvider, times(1)).getStaticContent(VERSIONED_PATH, "1", "/");
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("text/css", response.getContentType());
+        assertEquals(1, interceptor.getHotCacheHits());
+        assertEquals(1, interceptor.getHotCacheMisses());
+        assertEquals(0.5, interceptor.getHotCacheHitRatio(), 0.001);
+        assertEquals(10, interceptor.getHotCacheBytes());
+    }
+
+    @Test
+    public void shouldNotHoldAssetsInPreview() throws Exception {
+        //given
+        givenVersionedAsset();
+
+        //when
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), true);
+        interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), true);
+
+        //then
+        verify(contentProvider, times(2)).getStaticContent(VERSIONED_PATH, "1", "/");
+        assertEquals(0, interceptor.getHotCacheSize());
+    }
+
+    @Test
+    public void shouldNotHoldAssetsLargerThanConfigured() throws Exception {
+        //given
+        givenVersionedAsset();
+        StaticContentInterceptor smallCache = new StaticContentInterceptor(100, 5);
+        ReflectionTestUtils.setField(smallCache, "contentProvider", contentProvider);
+        ReflectionTestUtils.setField(smallCache, "webRequestContext", webRequestContext);
+
+        //when
+        smallCache.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), false);
+        smallCache.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), false);
+
+        //then
+        verify(contentProvider, times(2)).getStaticContent(VERSIONED_PATH, "1", "/");
+        assertEquals(0, smallCache.getHotCacheBytes());
+    }
+
+    @Test
+    public void shouldSendWholeContentWithETag() throws Exception {
+        //given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        boolean proceed = interceptor.preHandle(new MockHttpServletRequest(), response, false);
+
+        //then
+        assertFalse(proceed);
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertNotNull(response.getHeader("ETag"));
+    }
+
+    @Test
+    public void shouldReturnNotModifiedIfETagMatches() throws Exception {
+        //given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest(), first, false);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", first.getHeader("ETag"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void shouldSendContentIfETagDoesNotMatch() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    public void shouldSendRequestedRange() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=2-5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(206, response.getStatus());
+        assertEquals("2345", response.getContentAsString());
+        assertEquals("bytes 2-5/10", response.getHeader("Content-Range"));
+        assertEquals(4, response.getContentLength());
+    }
+
+    @Test
+    public void shouldSendSuffixRange() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(206, response.getStatus());
+        assertEquals("789", response.getContentAsString());
+        assertEquals("bytes 7-9/10", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    public void shouldRejectUnsatisfiableRange() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=10-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader("Content-Range"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void shouldIgnoreRangeIfContentHasChanged() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=2-5");
+        request.addHeader("If-Range", "\"other\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    public void shouldLetContainerSendVersionedFileIfSupported() throws Exception {
+        //given
+        givenVersionedAsset();
+        StaticContentInterceptor noHotCache = new StaticContentInterceptor(0, 0);
+        ReflectionTestUtils.setField(noHotCache, "contentProvider", contentProvider);
+        ReflectionTestUtils.setField(noHotCache, "webRequestContext", webRequestContext);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        request.addHeader("Range", "bytes=2-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        noHotCache.preHandle(request, response, false);
+
+        //then
+        assertEquals(206, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(file.getAbsolutePath(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(2L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals(8, response.getContentLength());
+    }
+
+    @Test
+    public void shouldTransferUnversionedFileFromOpenedChannelEvenIfSendFileIsSupported() throws Exception {
+        //given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        interceptor.preHandle(request, response, false);
+
+        //then
+        assertEquals(200, response.getStatus());
+        assertEquals("0123456789", response.getContentAsString());
+        assertNull(request.getAttribute("org.apache.tomcat.sendfile.filename"));
+    }
+}
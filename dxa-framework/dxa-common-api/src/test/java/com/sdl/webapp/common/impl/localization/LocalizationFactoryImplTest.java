@@ -1,26 +1,87 @@
 package com.sdl.webapp.common.impl.localization;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.webapp.common.api.content.ContentProvider;
+import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.content.StaticContentNotFoundException;
 import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class LocalizationFactoryImplTest {
 
     private LocalizationFactoryImpl localizationFactory;
 
+    private ContentProvider contentProvider = mock(ContentProvider.class);
+
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Before
     public void init() {
         this.localizationFactory = new LocalizationFactoryImpl();
+        ReflectionTestUtils.setField(localizationFactory, "contentProvider", contentProvider);
+        ReflectionTestUtils.setField(localizationFactory, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(localizationFactory, "bootstrapThreads", 2);
+        localizationFactory.initBootstrap();
+    }
+
+    @After
+    public void destroy() {
+        localizationFactory.destroyBootstrap();
+    }
+
+    @Test
+    public void shouldParseSubFilesConcurrentlyInOrder() throws Exception {
+        //given
+        mockFile("/system/config/core.json", "{\"title\": \"Core\", \"language\": \"en\"}");
+        mockFile("/system/config/search.json", "{\"title\": \"Search\"}");
+
+        //when
+        Map<String, String> configuration = localizationFactory.parseJsonSubFiles(contentProvider,
+                objectMapper.readTree("{\"files\": [\"/system/config/core.json\", \"\", \"/system/config/search.json\"]}"), "1", "/");
+
+        //then
+        assertEquals(3, configuration.size());
+        assertEquals("Core", configuration.get("core.title"));
+        assertEquals("en", configuration.get("core.language"));
+        assertEquals("Search", configuration.get("search.title"));
+    }
+
+    @Test(expected = LocalizationFactoryException.class)
+    public void shouldFailWhenSubFileIsMissing() throws Exception {
+        //given
+        mockFile("/system/config/core.json", "{\"title\": \"Core\"}");
+        when(contentProvider.getStaticContent("/system/config/missing.json", "1", "/"))
+                .thenThrow(new StaticContentNotFoundException("missing"));
+
+        //when
+        localizationFactory.parseJsonSubFiles(contentProvider,
+                objectMapper.readTree("{\"files\": [\"/system/config/missing.json\", \"/system/config/core.json\"]}"), "1", "/");
+
+        //then
+        //exception
+    }
+
+    private void mockFile(String path, String json) throws Exception {
+        StaticContentItem item = mock(StaticContentItem.class);
+        when(item.getContent()).thenReturn(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        when(contentProvider.getStaticContent(path, "1", "/")).thenReturn(item);
     }
 
 
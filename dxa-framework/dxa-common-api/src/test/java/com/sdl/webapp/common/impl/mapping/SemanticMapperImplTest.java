@@ -31,6 +31,7 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -42,8 +43,13 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(SpringJUnit4ClassRunner.class)
@@ -118,6 +124,45 @@ public class SemanticMapperImplTest {
         assertThat(xpmMetadata, hasEntry("manyMappingsNoValue", "tcm:Content/custom:TestArticle/custom:manyMappingsNoValue"));
     }
 
+    @Test
+    public void shouldMapEachEntityWithPlanOfItsSemanticFields() throws SemanticMappingException, NoSuchFieldException {
+        //given
+        Map<FieldSemantics, SemanticField> semantics = TestArticle.getSemantics();
+        Map<FieldSemantics, SemanticField> headlineOnly = new SemanticMapBuilder()
+                .both("TestArticle", "headline", TestArticle.SEMANTIC_FIELDS.get("headline"))
+                .build();
+        when(fieldDataProvider.getSemanticSchema()).thenReturn(new SemanticSchema(1L, "not important", Collections.emptySet(), semantics));
+        mockData(TestArticle.class.getDeclaredField("headline"), TestArticle.SEMANTIC_FIELDS.get("headline"),
+                new FieldData("FIRST", "tcm:Content/HeadlineField"), new FieldData("SECOND", "tcm:Content/HeadlineField"));
+        mockData(TestArticle.class.getDeclaredField("date"), TestArticle.SEMANTIC_FIELDS.get("date"),
+                new FieldData(new DateTime(2014, 11, 4, 13, 14, DateTimeZone.UTC), "tcm:Content/DateCreatedField"));
+
+        //when
+        TestArticle first = semanticMapper.createEntity(TestArticle.class, semantics, fieldDataProvider);
+        TestArticle second = semanticMapper.createEntity(TestArticle.class, headlineOnly, fieldDataProvider);
+
+        //then
+        assertThat(first.getHeadline(), is("FIRST"));
+        assertThat(first.getDate(), is(new DateTime(2014, 11, 4, 13, 14, DateTimeZone.UTC)));
+        assertThat(second.getHeadline(), is("SECOND"));
+        assertNull(second.getDate());
+        assertThat(second.getXpmPropertyMetadata().entrySet(), hasSize(1));
+    }
+
+    @Test
+    public void shouldReusePlan_ForSemanticFieldsOfSameSchemaCreatedAnew() throws SemanticMappingException {
+        //given
+        when(fieldDataProvider.getSemanticSchema()).thenReturn(new SemanticSchema(2L, "not important", Collections.emptySet(), TestArticle.getSemantics()));
+        semanticMapper.createEntity(TestArticle.class, TestArticle.getSemantics(), fieldDataProvider);
+        Map<FieldSemantics, SemanticField> createdAnew = spy(new LinkedHashMap<>(TestArticle.getSemantics()));
+
+        //when
+        semanticMapper.createEntity(TestArticle.class, createdAnew, fieldDataProvider);
+
+        //then
+        verify(createdAnew, never()).get(any());
+    }
+
     private static class SemanticMapBuilder extends ImmutableMap.Builder<FieldSemantics, SemanticField> {
 
         SemanticMapBuilder both(String entityName, String propertyName, SemanticField field) {
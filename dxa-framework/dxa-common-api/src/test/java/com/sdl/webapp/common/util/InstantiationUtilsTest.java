@@ -0,0 +1,77 @@
+package com.sdl.webapp.common.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class InstantiationUtilsTest {
+
+    @Test
+    public void shouldCreateInstancesWithPublicConstructors() throws Exception {
+        //when
+        PublicModel first = InstantiationUtils.newInstance(PublicModel.class);
+        PublicModel second = InstantiationUtils.newInstance(PublicModel.class);
+        PublicModel named = InstantiationUtils.newInstance(PublicModel.class, "name");
+
+        //then
+        assertNotSame(first, second);
+        assertEquals("default", first.name);
+        assertEquals("name", named.name);
+    }
+
+    @Test
+    public void shouldCreateInstancesWithNonPublicConstructors() throws Exception {
+        //when
+        PrivateModel model = InstantiationUtils.newInstance(PrivateModel.class, "name");
+
+        //then
+        assertEquals("name", model.name);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRethrowExceptionOfNonPublicConstructor() throws Exception {
+        InstantiationUtils.newInstance(PrivateModel.class, null);
+    }
+
+    @Test(expected = InstantiationException.class)
+    public void shouldFailIfThereIsNoNoArgumentConstructor() throws Exception {
+        InstantiationUtils.newInstance(PrivateModel.class);
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void shouldFailIfThereIsNoStringConstructor() throws Exception {
+        InstantiationUtils.newInstance(AbstractModel.class, "name");
+    }
+
+    public static class PublicModel {
+
+        private final String name;
+
+        public PublicModel() {
+            this("default");
+        }
+
+        public PublicModel(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class PrivateModel {
+
+        private final String name;
+
+        private PrivateModel(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name is required");
+            }
+            this.name = name;
+        }
+    }
+
+    public abstract static class AbstractModel {
+
+        public AbstractModel(String name) {
+        }
+    }
+}
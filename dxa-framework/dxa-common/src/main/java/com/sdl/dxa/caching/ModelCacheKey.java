@@ -0,0 +1,102 @@
+package com.sdl.dxa.caching;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache key of a page or entity model. Replaces keys concatenated to a string, so building a key does not allocate
+ * anything but the key itself and its hash code is computed only once.
+ *
+ * @dxa.publicApi
+ */
+@Getter
+public final class ModelCacheKey implements Serializable {
+
+    /**
+     * Fingerprint of the claims when there are no claims that influence a model.
+     */
+    public static final String NO_CLAIMS = "noclaims";
+
+    private static final long serialVersionUID = 1L;
+
+    private final String modelType;
+
+    private final String localizationId;
+
+    private final String path;
+
+    private final String id;
+
+    private final String claimsFingerprint;
+
+    private transient int hash;
+
+    private ModelCacheKey(String modelType, String localizationId, String path, String id, String claimsFingerprint) {
+        this.modelType = modelType;
+        this.localizationId = localizationId;
+        this.path = path;
+        this.id = id;
+        this.claimsFingerprint = claimsFingerprint == null ? NO_CLAIMS : claimsFingerprint;
+    }
+
+    /**
+     * Creates a key of a model requested by its path.
+     *
+     * @param modelType         type of the model, e.g. {@code pagemodel}
+     * @param localizationId    ID of the localization
+     * @param path              path of the model
+     * @param claimsFingerprint canonical representation of the claims the model depends on, {@code null} for none
+     * @return cache key
+     */
+    public static ModelCacheKey byPath(@NotNull String modelType, String localizationId, String path, String claimsFingerprint) {
+        return new ModelCacheKey(modelType, localizationId, path, null, claimsFingerprint);
+    }
+
+    /**
+     * Creates a key of a model requested by its ID.
+     *
+     * @param modelType         type of the model, e.g. {@code entitymodel}
+     * @param localizationId    ID of the localization
+     * @param id                ID of the model
+     * @param claimsFingerprint canonical representation of the claims the model depends on, {@code null} for none
+     * @return cache key
+     */
+    public static ModelCacheKey byId(@NotNull String modelType, String localizationId, String id, String claimsFingerprint) {
+        return new ModelCacheKey(modelType, localizationId, null, id, claimsFingerprint);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ModelCacheKey)) {
+            return false;
+        }
+        ModelCacheKey that = (ModelCacheKey) o;
+        return hashCode() == that.hashCode() &&
+                modelType.equals(that.modelType) &&
+                Objects.equals(localizationId, that.localizationId) &&
+                Objects.equals(path, that.path) &&
+                Objects.equals(id, that.id) &&
+                claimsFingerprint.equals(that.claimsFingerprint);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(modelType, localizationId, path, id, claimsFingerprint);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return modelType + " [" + (id == null ? path : "[" + id + "]") + "] " + localizationId + " " + claimsFingerprint;
+    }
+}
@@ -63,6 +63,17 @@ public interface NamedCacheProvider {
      */
     boolean isCacheEnabled(String cacheName);
 
+    /**
+     * Returns the stale-while-revalidate settings for the given cache name.
+     *
+     * @param cacheName name of the cache
+     * @return settings of the cache, or {@code null} if expired values of the cache should never be served
+     * @dxa.publicApi
+     */
+    default StaleWhileRevalidatePolicy getStaleWhileRevalidatePolicy(String cacheName) {
+        return null;
+    }
+
     /**
      * Current cache manager used by this provider.
      *
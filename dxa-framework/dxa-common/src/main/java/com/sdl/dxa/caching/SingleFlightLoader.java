@@ -0,0 +1,109 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces concurrent loads of the same key into one load.
+ * <p>The first caller for a key runs the loader in its own thread, other callers asking for the same key
+ * while the load is in flight wait for its result (or its exception) instead of loading the value again.
+ * Nothing is kept once the load is finished, so caching the value is up to the loader.</p>
+ *
+ * @param <K> type of the key
+ * @param <V> type of the loaded value
+ * @dxa.publicApi
+ */
+@Slf4j
+public class SingleFlightLoader<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong loads = new AtomicLong();
+
+    private final AtomicLong coalescedLoads = new AtomicLong();
+
+    /**
+     * Loads a value for the given key or waits for the load which is already in flight for this key.
+     *
+     * @param key    key of the value
+     * @param loader loader to be called if no load is in flight for the key
+     * @param <E>    type of the exception the loader may throw
+     * @return loaded value
+     * @throws E if the loader failed, also re-thrown to all the callers waiting for the same load
+     */
+    public <E extends Exception> V load(K key, Loader<V, E> loader) throws E {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedLoads.incrementAndGet();
+            log.debug("Load for key {} is already in flight, waiting for it", key);
+            return await(key, existing);
+        }
+
+        loads.incrementAndGet();
+        try {
+            V value = loader.load();
+            future.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of loads actually performed.
+     *
+     * @return number of loads
+     */
+    public long getLoads() {
+        return loads.get();
+    }
+
+    /**
+     * Returns the number of calls which waited for a load in flight instead of loading.
+     *
+     * @return number of coalesced loads
+     */
+    public long getCoalescedLoads() {
+        return coalescedLoads.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E extends Exception> V await(K key, CompletableFuture<V> future) throws E {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load of " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw (E) cause;
+        }
+    }
+
+    /**
+     * Loads a value, may throw a checked exception.
+     *
+     * @param <V> type of the loaded value
+     * @param <E> type of the exception
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+}
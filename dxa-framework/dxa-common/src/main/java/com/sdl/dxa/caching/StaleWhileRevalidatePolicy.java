@@ -0,0 +1,29 @@
+package com.sdl.dxa.caching;
+
+import lombok.Value;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings of a cache which serves expired values while they are refreshed in background.
+ *
+ * @dxa.publicApi
+ */
+@Value
+public class StaleWhileRevalidatePolicy {
+
+    /**
+     * Period in milliseconds during which a cached value is fresh.
+     */
+    private long timeToLiveMillis;
+
+    /**
+     * Period in milliseconds after {@link #timeToLiveMillis} during which an expired value may still be served.
+     */
+    private long maxStalenessMillis;
+
+    /**
+     * Bounded executor running the refreshes of expired values.
+     */
+    private Executor refreshExecutor;
+}
@@ -4,6 +4,10 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.cache.annotation.Cacheable;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Link resolver that resolves links to components.
  *
@@ -71,4 +75,24 @@ public interface LinkResolver {
      */
     @Contract("null, _, _, _ -> null; !null, _, _, _ -> !null")
     String resolveLink(@Nullable String url, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId);
+
+    /**
+     * Resolves several links at once, for instance all the links of a page. Implementations may resolve them together
+     * rather than one after another, and let later calls of {@code resolveLink} for the same links reuse the results.
+     *
+     * @param urls            The TCM URIs to resolve, {@code null} ones are ignored.
+     * @param localizationId  The localization ID to use.
+     * @param resolveToBinary whether the expected URLs are URLs to binaries
+     * @param contextId       The ID of the context page within which we are resolving
+     * @return The translated URLs by the given URIs, in the order of the URIs.
+     */
+    default Map<String, String> resolveLinks(Collection<String> urls, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
+        Map<String, String> resolved = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (url != null && !resolved.containsKey(url)) {
+                resolved.put(url, resolveLink(url, localizationId, resolveToBinary, contextId));
+            }
+        }
+        return resolved;
+    }
 }
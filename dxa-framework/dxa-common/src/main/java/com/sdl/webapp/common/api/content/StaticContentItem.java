@@ -1,10 +1,16 @@
 package com.sdl.webapp.common.api.content;
 
 import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 /**
  * Static content item.
@@ -35,6 +41,16 @@ public class StaticContentItem {
         return contentFile.lastModified();
     }
 
+    /**
+     * Returns the file holding the content of this static content item, for instance to let the servlet container
+     * send it directly. Callers are not expected to modify the file.
+     *
+     * @return The file holding the content of this static content item.
+     */
+    public File getContentFile() {
+        return contentFile;
+    }
+
     /**
      * Returns the MIME type of this static content item.
      *
@@ -55,6 +71,24 @@ public class StaticContentItem {
         return new BufferedInputStream(new FileInputStream(this.contentFile));
     }
 
+    /**
+     * Opens the content of this static content item for sending it. Its size and its modification date are read once
+     * when it is opened, so that they describe the very content which is then transferred even if the file is replaced
+     * in the meantime. Callers are expected to close it.
+     *
+     * @return The opened content of this static content item.
+     * @throws java.io.IOException When an I/O error occurs while opening the content.
+     */
+    public OpenContent open() throws IOException {
+        FileChannel channel = FileChannel.open(contentFile.toPath(), StandardOpenOption.READ);
+        try {
+            return new OpenContent(channel, channel.size(), contentFile.lastModified());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
     /**
      * Returns whether the file is versioned.
      *
@@ -63,4 +97,85 @@ public class StaticContentItem {
     public boolean isVersioned() {
         return this.versioned;
     }
+
+    /**
+     * Content of a static content item opened with {@link #open()}.
+     *
+     * @dxa.publicApi
+     */
+    public static final class OpenContent implements Closeable {
+
+        private final FileChannel channel;
+
+        private final long length;
+
+        private final long lastModified;
+
+        private OpenContent(FileChannel channel, long length, long lastModified) {
+            this.channel = channel;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Returns the size of the opened content.
+         *
+         * @return The size of the content in bytes.
+         */
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * Returns a timestamp which indicates when the opened content was last modified.
+         *
+         * @return The timestamp as a number of milliseconds since the epoch (01-01-1970, 00:00:00 UTC).
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Transfers a part of the content to the given channel. The operating system copies the file directly only to
+         * file and socket channels; to any other channel, like one wrapping a servlet output stream, the content is
+         * copied through a buffer.
+         *
+         * @param position The position in the content of the first byte to transfer.
+         * @param count    The number of bytes to transfer.
+         * @param target   The channel to transfer the content to, which is not closed.
+         * @return The number of transferred bytes, fewer than {@code count} if the content ends before.
+         * @throws java.io.IOException When an I/O error occurs while reading or writing the content.
+         */
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            long transferred = 0;
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred += written;
+            }
+            return transferred;
+        }
+
+        /**
+         * Reads the whole content.
+         *
+         * @return The content.
+         * @throws java.io.IOException When an I/O error occurs while reading the content.
+         */
+        public byte[] readAll() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+            int read = 0;
+            while (buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer, buffer.position());
+            }
+            return buffer.position() == length ? buffer.array() : Arrays.copyOf(buffer.array(), buffer.position());
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
 }
@@ -6,6 +6,15 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.regex.Pattern;
 
 /**
@@ -21,6 +30,10 @@ public final class FileUtils {
 
     private static final String FAVICON_PATH = "/favicon.ico";
 
+    private static final long TRANSFER_CHUNK = 1024 * 1024;
+
+    private static final String TEMP_FILE_PREFIX = "dxa-";
+
     private FileUtils() {
     }
 
@@ -92,6 +105,80 @@ public final class FileUtils {
         return true;
     }
 
+    /**
+     * Creates an empty temporary file for the given file in the given folder, creating the folder if needed.
+     * The folder is expected to be on the same file system as the file, so the temporary file can then be moved over
+     * the file atomically, and not to be served, so a partially written or left behind temporary file is never served.
+     *
+     * @param file       file which the temporary file is for
+     * @param tempFolder folder to create the temporary file in
+     * @return path of the temporary file
+     * @throws IOException if the folder or the file cannot be created
+     */
+    public static Path createTempFileFor(@NotNull File file, @NotNull File tempFolder) throws IOException {
+        Path folder = Files.createDirectories(tempFolder.toPath());
+        return Files.createTempFile(folder, TEMP_FILE_PREFIX, ".tmp");
+    }
+
+    /**
+     * Streams the content to the given path through a channel, without holding the whole content in memory.
+     * The stream is not closed.
+     *
+     * @param content content to write
+     * @param target  path to write the content to, overwritten if it exists
+     * @return number of written bytes
+     * @throws IOException if the content cannot be read or written
+     */
+    public static long copy(@NotNull InputStream content, @NotNull Path target) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(content);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+                position += transferred;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Moves the source over the target file atomically, so readers of the target see either the old or the new content.
+     * Falls back to a plain move if the file system doesn't support atomic moves. The folder of the target is created
+     * if needed.
+     *
+     * @param source file to move, usually created with {@link #createTempFileFor(File, File)}
+     * @param target file to replace
+     * @throws IOException if the file cannot be moved
+     */
+    public static void moveAtomically(@NotNull Path source, @NotNull File target) throws IOException {
+        Files.createDirectories(target.getAbsoluteFile().getParentFile().toPath());
+        try {
+            Files.move(source, target.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            log.debug("Atomic move is not supported for {}, moving it non-atomically", target, e);
+            Files.move(source, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content to the file through a temporary file which is then moved over it,
+     * so readers of the file never see it partially written. The temporary file is deleted if it cannot be moved.
+     *
+     * @param content    content to write, not closed
+     * @param file       file to write
+     * @param tempFolder folder to write the temporary file in, see {@link #createTempFileFor(File, File)}
+     * @throws IOException if the content cannot be written
+     */
+    public static void writeAtomically(@NotNull InputStream content, @NotNull File file, @NotNull File tempFolder) throws IOException {
+        Path temp = createTempFileFor(file, tempFolder);
+        try {
+            copy(content, temp);
+            moveAtomically(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
     /**
      * Returns if this path is a path of a favicon.
      *
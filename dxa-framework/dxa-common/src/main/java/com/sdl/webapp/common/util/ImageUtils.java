@@ -111,6 +111,24 @@ public final class ImageUtils {
         Files.write(content, file);
     }
 
+    /**
+     * Writes the content to the file, resizing it first if it is an image to be resized. The file is replaced atomically
+     * through a temporary file, so it is never read partially written.
+     *
+     * @param file       file to write
+     * @param pathInfo   path info of the file
+     * @param content    content to write
+     * @param tempFolder folder to write the temporary file in, see {@link FileUtils#createTempFileFor(File, File)}
+     * @throws ContentProviderException if the image cannot be resized
+     * @throws IOException              if the file cannot be written
+     */
+    public static void writeToFile(File file, ImageUtils.StaticContentPathInfo pathInfo, byte[] content, File tempFolder) throws ContentProviderException, IOException {
+        if (pathInfo.isImage() && pathInfo.isResized()) {
+            content = ImageUtils.resizeImage(content, pathInfo);
+        }
+        FileUtils.writeAtomically(new ByteArrayInputStream(content), file, tempFolder);
+    }
+
     public static final class StaticContentPathInfo {
 
         private static final Pattern IMAGE_FILENAME_PATTERN = Pattern.compile("(.*)_w([\\d]+)(?:_h([\\d]+))?(_n)?(\\.[^\\.]+)?");
@@ -16,12 +16,28 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 public abstract class AbstractLinkResolver implements LinkResolver, InitializingBean {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLinkResolver.class);
 
+    /**
+     * Name of the request attribute holding the links resolved during the request, a thread-safe map which may be
+     * shared with work done for the request in other threads.
+     */
+    public static final String RESOLVED_LINKS_ATTRIBUTE = AbstractLinkResolver.class.getName() + ".resolvedLinks";
+
     @Value("${dxa.web.link-resolver.remove-extension:#{true}}")
     private boolean shouldRemoveExtension;
 
@@ -30,36 +46,129 @@ public abstract class AbstractLinkResolver implements LinkResolver, Initializing
 
     @Override
     public String resolveLink(@Nullable String url, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
+        Map<List<Object>, String> resolvedInRequest = getResolvedInRequest(false);
+        if (resolvedInRequest != null && url != null) {
+            String resolved = resolvedInRequest.get(requestKey(url, localizationId, resolveToBinary, contextId));
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+
         final int publicationId = !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
 
         String resolvedLink = _resolveLink(url, publicationId, resolveToBinary, contextId);
+        return postProcess(resolvedLink);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The TCM URIs are resolved together by {@link #resolveAll(List, boolean)}. The results are kept until the end
+     * of the current request, so resolving the same links one by one later on doesn't resolve them again. Calls which
+     * are cached, like {@link LinkResolver#resolveLink(String, String)}, fill their cache from these results then.</p>
+     */
+    @Override
+    public Map<String, String> resolveLinks(Collection<String> urls, @Nullable String localizationId, boolean resolveToBinary, @Nullable String contextId) {
+        final int publicationId = !Strings.isNullOrEmpty(localizationId) ? Integer.parseInt(localizationId) : 0;
+        final int pageId = getPageId(contextId);
+
+        Map<List<Object>, String> resolvedInRequest = getResolvedInRequest(true);
+        Map<String, String> resolved = new LinkedHashMap<>();
+        List<ResolvingData> toResolve = new ArrayList<>();
+        for (String url : urls) {
+            if (url == null || resolved.containsKey(url)) {
+                continue;
+            }
+            String known = resolvedInRequest == null ? null : resolvedInRequest.get(requestKey(url, localizationId, resolveToBinary, contextId));
+            if (known != null) {
+                resolved.put(url, known);
+            } else if (!TcmUtils.isTcmUri(url)) {
+                resolved.put(url, postProcess(url));
+            } else {
+                resolved.put(url, null);
+                toResolve.add(getResolvingData(url, publicationId, pageId));
+            }
+        }
+        if (toResolve.isEmpty()) {
+            return resolved;
+        }
+
+        log.debug("Resolving {} links together", toResolve.size());
+        List<String> results = resolveAll(toResolve, resolveToBinary);
+        for (int i = 0; i < toResolve.size(); i++) {
+            String url = toResolve.get(i).getUri();
+            String resolvedUrl = postProcess(results.get(i));
+            resolved.put(url, resolvedUrl);
+            if (resolvedUrl != null && resolvedInRequest != null) {
+                resolvedInRequest.put(requestKey(url, localizationId, resolveToBinary, contextId), resolvedUrl);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves the given TCM URIs, one after another unless overridden.
+     *
+     * @param resolvingData data of the TCM URIs to resolve
+     * @param isBinary      whether the expected URLs are URLs to binaries
+     * @return resolved links, in the order of the given data
+     */
+    protected List<String> resolveAll(List<ResolvingData> resolvingData, boolean isBinary) {
+        List<String> results = new ArrayList<>(resolvingData.size());
+        for (ResolvingData data : resolvingData) {
+            results.add(resolve(data, isBinary));
+        }
+        return results;
+    }
+
+    private String postProcess(String resolvedLink) {
         String resolvedUrl = shouldStripIndexPath ? PathUtils.stripIndexPath(resolvedLink) : resolvedLink;
         return shouldRemoveExtension ? PathUtils.stripDefaultExtension(resolvedUrl) : resolvedUrl;
     }
 
-    @Contract("null, _, _ -> null; !null, _, _ -> !null")
-    private String _resolveLink(String uri, int publicationId, boolean isBinary, String contextId) {
-        if (uri == null || !TcmUtils.isTcmUri(uri)) {
-            return uri;
+    @SuppressWarnings("unchecked")
+    private static Map<List<Object>, String> getResolvedInRequest(boolean create) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object resolved = attributes.getAttribute(RESOLVED_LINKS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (resolved == null && create) {
+            resolved = new ConcurrentHashMap<List<Object>, String>();
+            attributes.setAttribute(RESOLVED_LINKS_ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
         }
+        return (Map<List<Object>, String>) resolved;
+    }
+
+    private static List<Object> requestKey(String url, String localizationId, boolean resolveToBinary, String contextId) {
+        return Arrays.asList(url, localizationId, resolveToBinary, contextId);
+    }
 
+    private static int getPageId(String contextId) {
         //Page ID is either tcm uri or int (in string form) -1 means no page context
-        int pageId = -1;
         if (TcmUtils.isTcmUri(contextId)) {
-            pageId = TcmUtils.getItemId(contextId);
-        } else {
-            pageId = NumberUtils.toInt(contextId, -1);
+            return TcmUtils.getItemId(contextId);
         }
+        return NumberUtils.toInt(contextId, -1);
+    }
 
+    private static ResolvingData getResolvingData(String uri, int publicationId, int pageId) {
         int itemId = TcmUtils.getItemId(uri);
-
-        ResolvingData resolvingData;
         if (publicationId <= 0) {
-            resolvingData = new ResolvingData(TcmUtils.getPublicationId(uri), itemId, uri, pageId);
-        } else {
-            resolvingData = new ResolvingData(publicationId, itemId, uri, pageId);
+            return new ResolvingData(TcmUtils.getPublicationId(uri), itemId, uri, pageId);
+        }
+        return new ResolvingData(publicationId, itemId, uri, pageId);
+    }
+
+    @Contract("null, _, _, _ -> null; !null, _, _, _ -> !null")
+    private String _resolveLink(String uri, int publicationId, boolean isBinary, String contextId) {
+        if (uri == null || !TcmUtils.isTcmUri(uri)) {
+            return uri;
         }
+        return resolve(getResolvingData(uri, publicationId, getPageId(contextId)), isBinary);
+    }
 
+    private String resolve(ResolvingData resolvingData, boolean isBinary) {
+        String uri = resolvingData.getUri();
         String result = "";
         switch (TcmUtils.getItemType(uri)) {
             case TcmUtils.COMPONENT_ITEM_TYPE:
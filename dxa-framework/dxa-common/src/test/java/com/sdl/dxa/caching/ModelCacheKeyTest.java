@@ -0,0 +1,37 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class ModelCacheKeyTest {
+
+    @Test
+    public void shouldBeEqualForSameModelAndClaims() {
+        //given
+        ModelCacheKey key = ModelCacheKey.byPath("pagemodel", "1", "/index", "claims:a=1;");
+
+        //when
+        ModelCacheKey sameKey = ModelCacheKey.byPath("pagemodel", "1", "/index", "claims:a=1;");
+
+        //then
+        assertEquals(key, sameKey);
+        assertEquals(key.hashCode(), sameKey.hashCode());
+    }
+
+    @Test
+    public void shouldDistinguishPathFromIdAndClaims() {
+        //given
+        ModelCacheKey key = ModelCacheKey.byPath("pagemodel", "1", "123", null);
+
+        //when
+        ModelCacheKey byId = ModelCacheKey.byId("pagemodel", "1", "123", null);
+        ModelCacheKey withClaims = ModelCacheKey.byPath("pagemodel", "1", "123", "claims:a=1;");
+
+        //then
+        assertNotEquals(key, byId);
+        assertNotEquals(key, withClaims);
+        assertEquals(ModelCacheKey.NO_CLAIMS, key.getClaimsFingerprint());
+    }
+}
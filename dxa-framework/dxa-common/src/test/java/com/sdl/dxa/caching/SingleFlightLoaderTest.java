@@ -0,0 +1,86 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SingleFlightLoaderTest {
+
+    @Test
+    public void shouldLoadOnceForConcurrentCallers() throws Exception {
+        //given
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        Future<String> first = executor.submit(() -> loader.load("key", () -> {
+            calls.incrementAndGet();
+            started.countDown();
+            release.await();
+            return "value";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> loader.load("key", () -> {
+            calls.incrementAndGet();
+            return "other";
+        }));
+        while (loader.getCoalescedLoads() == 0) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        //then
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, calls.get());
+        assertEquals(1, loader.getLoads());
+        assertEquals(1, loader.getCoalescedLoads());
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLoadAgainAfterLoadIsFinished() throws Exception {
+        //given
+        SingleFlightLoader<String, Integer> loader = new SingleFlightLoader<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        //when
+        loader.load("key", calls::incrementAndGet);
+        int second = loader.load("key", calls::incrementAndGet);
+
+        //then
+        assertEquals(2, second);
+        assertEquals(2, loader.getLoads());
+        assertEquals(0, loader.getCoalescedLoads());
+    }
+
+    @Test
+    public void shouldRethrowLoaderException() {
+        //given
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>();
+
+        //when
+        try {
+            loader.load("key", () -> {
+                throw new IOException("failed");
+            });
+            fail("Exception expected");
+        } catch (IOException e) {
+            //then
+            assertEquals("failed", e.getMessage());
+        }
+    }
+}
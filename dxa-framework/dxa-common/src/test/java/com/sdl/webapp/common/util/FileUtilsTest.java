@@ -1,13 +1,22 @@
 package com.sdl.webapp.common.util;
 
 import com.sdl.webapp.common.api.content.ContentProviderException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -16,6 +25,9 @@ import static org.mockito.Mockito.when;
 @SuppressWarnings("ResultOfMethodCallIgnored")
 public class FileUtilsTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void shouldSayIfFileShouldBeRefreshed() throws ContentProviderException {
         //given
@@ -240,4 +252,44 @@ public class FileUtilsTest {
         assertTrue(FileUtils.isEssentialConfiguration("/abc/system/v32/system/config.txt", "/abc"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldWriteFileAtomically_WithoutLeavingTemporaryFiles() throws IOException {
+        //given
+        File file = new File(folder.getRoot(), "sub/folder/binary.pdf");
+        File tempFolder = new File(folder.getRoot(), "temp");
+        byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random(42).nextBytes(content);
+
+        //when
+        FileUtils.writeAtomically(new ByteArrayInputStream("old".getBytes()), file, tempFolder);
+        FileUtils.writeAtomically(new ByteArrayInputStream(content), file, tempFolder);
+
+        //then
+        assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        assertArrayEquals(new String[]{"binary.pdf"}, file.getParentFile().list());
+        assertArrayEquals(new String[0], tempFolder.list());
+    }
+
+    @Test
+    public void shouldDeleteTemporaryFile_IfContentCannotBeRead() throws IOException {
+        //given
+        File file = new File(folder.getRoot(), "binary.pdf");
+        File tempFolder = new File(folder.getRoot(), "temp");
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        //when
+        try {
+            FileUtils.writeAtomically(failing, file, tempFolder);
+            fail("content cannot be read");
+        } catch (IOException e) {
+            //then
+            assertFalse(file.exists());
+            assertArrayEquals(new String[0], tempFolder.list());
+        }
+    }
+}
@@ -1,13 +1,31 @@
 package com.sdl.webapp.tridion.linking;
 
+import org.junit.After;
 import org.junit.Test;
 import org.springframework.context.annotation.Profile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class AbstractLinkResolverTest {
 
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     public void shouldReturnUrlItself_IfNotTcmUri() {
         //given 
@@ -90,9 +108,57 @@ public class AbstractLinkResolverTest {
         assertEquals("/index.html", indexHtml);
     }
 
+    @Test
+    public void shouldResolveLinksTogether() {
+        //given
+        TestLinkResolver linkResolver = new TestLinkResolver();
+
+        //when
+        Map<String, String> links = linkResolver.resolveLinks(
+                Arrays.asList("tcm:2-3", "/index.html", "tcm:2-3", null, "tcm:2-4-64"), "2", false, null);
+
+        //then
+        assertEquals(3, links.size());
+        assertEquals("resolved-component-2", links.get("tcm:2-3"));
+        assertEquals("/", links.get("/index.html"));
+        assertEquals("resolved-page-2", links.get("tcm:2-4-64"));
+        assertEquals(2, linkResolver.resolved);
+    }
+
+    @Test
+    public void shouldReuseLinksResolvedTogether_InSameRequest() {
+        //given
+        givenRequest();
+        TestLinkResolver linkResolver = new TestLinkResolver();
+        linkResolver.resolveLinks(Arrays.asList("tcm:2-3", "tcm:2-4-64"), "2", false, "tcm:2-5-64");
+
+        //when
+        String component = linkResolver.resolveLink("tcm:2-3", "2", "tcm:2-5-64");
+        String page = linkResolver.resolveLink("tcm:2-4-64", "2", "tcm:2-5-64");
+        String otherContext = linkResolver.resolveLink("tcm:2-3", "2", "tcm:2-6-64");
+
+        //then
+        assertEquals("resolved-component-2", component);
+        assertEquals("resolved-page-2", page);
+        assertEquals("resolved-component-2", otherContext);
+        assertEquals(3, linkResolver.resolved);
+    }
+
+    private static void givenRequest() {
+        Map<String, Object> attributes = new HashMap<>();
+        RequestAttributes requestAttributes = mock(RequestAttributes.class);
+        when(requestAttributes.getAttribute(anyString(), anyInt()))
+                .thenAnswer(invocation -> attributes.get((String) invocation.getArguments()[0]));
+        doAnswer(invocation -> attributes.put((String) invocation.getArguments()[0], invocation.getArguments()[1]))
+                .when(requestAttributes).setAttribute(anyString(), any(), anyInt());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
     @Profile("test")
     private static class TestLinkResolver extends AbstractLinkResolver {
 
+        private int resolved;
+
         public TestLinkResolver() {
             ReflectionTestUtils.setField(this, "shouldRemoveExtension", true);
             ReflectionTestUtils.setField(this, "shouldStripIndexPath", true);
@@ -103,16 +169,19 @@ public class AbstractLinkResolverTest {
 
         @Override
         protected String resolveComponent(ResolvingData resolvingData) {
+            resolved++;
             return "resolved-component-" + resolvingData.getPublicationId();
         }
 
         @Override
         protected String resolvePage(ResolvingData resolvingData) {
+            resolved++;
             return "resolved-page-" + resolvingData.getPublicationId();
         }
 
         @Override
         protected String resolveBinary(ResolvingData resolvingData) {
+            resolved++;
             return "resolved-binary-" + resolvingData.getPublicationId();
         }
     }
@@ -1,5 +1,6 @@
 package com.sdl.dxa.caching;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sdl.web.client.cache.CacheProviderInitializer;
 import com.sdl.web.client.cache.GeneralCacheProvider;
 import com.sdl.web.client.configuration.ClientConstants;
@@ -8,9 +9,13 @@ import com.sdl.web.content.client.configuration.impl.BaseClientConfigurationLoad
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Triple;
+import org.ehcache.config.CacheRuntimeConfiguration;
 import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
 import org.ehcache.config.builders.ResourcePoolsBuilder;
 import org.ehcache.expiry.Duration;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.jsr107.Eh107Configuration;
 import org.ehcache.xml.XmlConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -18,6 +23,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.cache.Cache;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
@@ -33,6 +39,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import static com.sdl.web.client.configuration.ClientConstants.Cache.DEFAULT_CACHE_URI;
@@ -60,6 +68,18 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
     @Value("${dxa.caching.configuration:#{null}}")
     private String cachingConfigurationFile;
 
+    @Value("#{'${dxa.caching.stale-while-revalidate.caches:}'.split('[,\\s]')}")
+    private Set<String> staleWhileRevalidateCaches;
+
+    @Value("${dxa.caching.stale-while-revalidate.max-staleness:300}")
+    private int maxStalenessSeconds;
+
+    @Value("${dxa.caching.stale-while-revalidate.threads:2}")
+    private int revalidateThreads;
+
+    @Value("${dxa.caching.stale-while-revalidate.queue:100}")
+    private int revalidateQueueSize;
+
     private boolean isCilConfigUsed;
 
     @Getter
@@ -71,6 +91,10 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
 
     private com.sdl.web.client.cache.CacheProvider cilCacheProvider;
 
+    private Map<String, StaleWhileRevalidatePolicy> staleWhileRevalidatePolicies = new ConcurrentSkipListMap<>();
+
+    private ThreadPoolExecutor revalidateExecutor;
+
     public DefaultNamedCacheProvider() throws ConfigurationException {
         // empty
     }
@@ -87,6 +111,24 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         log.info("Using cache config {}, CIL uses GeneralCacheProvider: {}", cacheConfigurationUri, cilUsesGeneralCache);
         this.cacheManager = getCacheManager(cacheConfigurationUri);
 
+        staleWhileRevalidateCaches.remove("");
+        if (maxStalenessSeconds > 0 && !staleWhileRevalidateCaches.isEmpty()) {
+            this.revalidateExecutor = new ThreadPoolExecutor(revalidateThreads, revalidateThreads, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(revalidateQueueSize),
+                    new ThreadFactoryBuilder().setNameFormat("dxa-cache-revalidate-%d").setDaemon(true).build());
+            this.revalidateExecutor.allowCoreThreadTimeOut(true);
+            for (String cacheName : staleWhileRevalidateCaches) {
+                if (cacheManager.getCache(cacheName) == null) {
+                    cacheManager.createCache(cacheName, buildDefaultCacheConfiguration(Object.class, Object.class));
+                }
+                java.time.Duration timeToLive = extendExpiry(cacheManager, cacheName, maxStalenessSeconds);
+                staleWhileRevalidatePolicies.put(cacheName, new StaleWhileRevalidatePolicy(
+                        timeToLive.toMillis(), TimeUnit.SECONDS.toMillis(maxStalenessSeconds), revalidateExecutor));
+                log.info("Cache {} serves values expired after {} seconds for up to {} seconds while refreshing them",
+                        cacheName, timeToLive.getSeconds(), maxStalenessSeconds);
+            }
+        }
+
         //cannot be null because of default value
         //noinspection ConstantConditions
         cacheManager.getCacheNames().forEach(requiredCaches::remove);
@@ -94,6 +136,13 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         requiredCaches.forEach(this::getCache);
     }
 
+    @PreDestroy
+    public void destroy() {
+        if (revalidateExecutor != null) {
+            revalidateExecutor.shutdownNow();
+        }
+    }
+
     @Override
     protected String getServiceUrl() {
         return "";
@@ -138,6 +187,52 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
         return isCacheEnabled() && !disabledCaches.contains(cacheName);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Caches listed in {@code dxa.caching.stale-while-revalidate.caches} keep their values for
+     * {@code dxa.caching.stale-while-revalidate.max-staleness} seconds longer than their configured time to live,
+     * whether they are configured explicitly in EhCache configuration or created by DXA.</p>
+     */
+    @Override
+    public StaleWhileRevalidatePolicy getStaleWhileRevalidatePolicy(String cacheName) {
+        return staleWhileRevalidatePolicies.get(cacheName);
+    }
+
+    /**
+     * Recreates the given cache with its time to live extended by the staleness period. Values are then kept for
+     * the staleness period, and {@link StaleWhileRevalidateCache} decides when they are expired.
+     *
+     * @param cacheManager        cache manager holding the cache
+     * @param cacheName           name of an existing cache
+     * @param maxStalenessSeconds period the time to live is extended by
+     * @return the time to live the cache was configured with
+     * @throws IllegalStateException if the cache has no finite time to live which can be extended
+     */
+    @SuppressWarnings("unchecked")
+    static java.time.Duration extendExpiry(CacheManager cacheManager, String cacheName, long maxStalenessSeconds) {
+        Cache<Object, Object> cache = cacheManager.getCache(cacheName);
+        CacheRuntimeConfiguration<Object, Object> configuration = cache.getConfiguration(Eh107Configuration.class)
+                .unwrap(CacheRuntimeConfiguration.class);
+
+        java.time.Duration timeToLive;
+        try {
+            timeToLive = configuration.getExpiryPolicy().getExpiryForCreation(null, null);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Cannot serve stale values from cache " + cacheName +
+                    ", its expiry is not a time to live", e);
+        }
+        if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()
+                || ExpiryPolicy.INFINITE.equals(timeToLive)) {
+            throw new IllegalStateException("Cannot serve stale values from cache " + cacheName +
+                    ", it has no finite time to live but " + timeToLive);
+        }
+
+        cacheManager.destroyCache(cacheName);
+        cacheManager.createCache(cacheName, fromEhcacheCacheConfiguration(newCacheConfigurationBuilder(configuration)
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive.plusSeconds(maxStalenessSeconds)))));
+        return timeToLive;
+    }
+
     @NotNull
     private <K, V> javax.cache.configuration.Configuration<K, V> buildDefaultCacheConfiguration(Class<K> keyType, Class<V> valueType) {
         return fromEhcacheCacheConfiguration(isCilConfigUsed ?
@@ -166,16 +261,17 @@ public class DefaultNamedCacheProvider extends BaseClientConfigurationLoader imp
             configurationBuilder = buildDefaultConfigCacheConfiguration(keyType, valueType);
         }
 
+        Duration timeToLive = of(getTimeToLiveSeconds(), TimeUnit.SECONDS);
+        return configurationBuilder.withExpiry(timeToLiveExpiration(timeToLive));
+    }
+
+    private long getTimeToLiveSeconds() {
         Integer cacheExpirationPeriod = this.cilCacheProvider.getCacheExpirationPeriod();
-        Duration timeToLive;
         if (cacheExpirationPeriod != null) {
-            timeToLive = of(cacheExpirationPeriod, TimeUnit.SECONDS);
-        } else {
-            log.warn("Cache Expiration Period is not set, fallback to 5 minutes, set it in cd_client_conf.xml");
-            timeToLive = of(5, TimeUnit.MINUTES);
+            return cacheExpirationPeriod;
         }
-
-        return configurationBuilder.withExpiry(timeToLiveExpiration(timeToLive));
+        log.warn("Cache Expiration Period is not set, fallback to 5 minutes, set it in cd_client_conf.xml");
+        return TimeUnit.MINUTES.toSeconds(5);
     }
 
     @NotNull
@@ -34,7 +34,7 @@ public class SpringJCacheManagerAdapter implements CacheManager {
             boolean cacheEnabled = cacheProvider.isCacheEnabled(name);
             log.info("Cache [{}] is {}", name, cacheEnabled ? "enabled" : "disabled");
             Cache cache = cacheEnabled
-                    ? new JCacheCache(cacheProvider.getCache(name))
+                    ? createCache(name)
                     : noOpCacheManager.getCache(name);
             caches.putIfAbsent(name, cache);
         }
@@ -43,6 +43,12 @@ public class SpringJCacheManagerAdapter implements CacheManager {
         return cache;
     }
 
+    private Cache createCache(String name) {
+        Cache cache = new JCacheCache(cacheProvider.getCache(name));
+        StaleWhileRevalidatePolicy policy = cacheProvider.getStaleWhileRevalidatePolicy(name);
+        return policy != null ? new StaleWhileRevalidateCache(cache, policy) : cache;
+    }
+
     @Override
     public Collection<String> getCacheNames() {
         return new ArrayList<>(caches.keySet());
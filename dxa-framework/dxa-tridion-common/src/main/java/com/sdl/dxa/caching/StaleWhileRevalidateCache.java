@@ -0,0 +1,195 @@
+package com.sdl.dxa.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Spring {@link Cache} which keeps values after their time to live and may serve them while they are refreshed in background.
+ * <p>The regular {@link Cache} methods never return an expired value, so callers not aware of this cache behave as before.
+ * Callers that are able to refresh a value use {@link #getOrRevalidate(Object, Supplier)}, which returns an expired value
+ * immediately and refreshes it on the bounded executor of {@link StaleWhileRevalidatePolicy}.</p>
+ */
+@Slf4j
+public class StaleWhileRevalidateCache implements Cache {
+
+    private final Cache delegate;
+
+    private final StaleWhileRevalidatePolicy policy;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong staleHits = new AtomicLong();
+
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private final AtomicLong failedRefreshes = new AtomicLong();
+
+    private final AtomicLong rejectedRefreshes = new AtomicLong();
+
+    public StaleWhileRevalidateCache(@NotNull Cache delegate, @NotNull StaleWhileRevalidatePolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns a cached value, even if it is expired. In the latter case a refresh is scheduled unless
+     * a refresh of the same key is already in progress.
+     * The refresh is expected to put the new value to this cache itself.
+     *
+     * @param key     key of the value
+     * @param refresh creates the refresh of the value, only called in the current thread when a refresh is scheduled;
+     *                the refresh itself is called in a background thread
+     * @return the cached value or {@code null} if there is none
+     */
+    public ValueWrapper getOrRevalidate(Object key, Supplier<? extends Callable<?>> refresh) {
+        Entry entry = getEntry(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            staleHits.incrementAndGet();
+            revalidate(key, refresh);
+        }
+        return new SimpleValueWrapper(entry.value);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entry entry = getEntry(key);
+        return entry == null || entry.isExpired() ? null : new SimpleValueWrapper(entry.value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, System.currentTimeMillis() + policy.getTimeToLiveMillis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, new Entry(value, System.currentTimeMillis() + policy.getTimeToLiveMillis()));
+        return existing == null ? null : new SimpleValueWrapper(unwrap(existing.get()).value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    public long getRefreshes() {
+        return refreshes.get();
+    }
+
+    public long getFailedRefreshes() {
+        return failedRefreshes.get();
+    }
+
+    public long getRejectedRefreshes() {
+        return rejectedRefreshes.get();
+    }
+
+    private void revalidate(Object key, Supplier<? extends Callable<?>> refreshFactory) {
+        if (!refreshing.add(key)) {
+            log.trace("Refresh of {} in cache {} is already in progress", key, getName());
+            return;
+        }
+        try {
+            Callable<?> refresh = refreshFactory.get();
+            policy.getRefreshExecutor().execute(() -> {
+                try {
+                    refresh.call();
+                    refreshes.incrementAndGet();
+                } catch (Exception e) {
+                    failedRefreshes.incrementAndGet();
+                    log.warn("Failed to refresh {} in cache {}, expired value stays until next attempt", key, getName(), e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            rejectedRefreshes.incrementAndGet();
+            log.debug("Refresh queue is full, refresh of {} in cache {} is postponed", key, getName());
+        }
+    }
+
+    private Entry getEntry(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        return wrapper == null ? null : unwrap(wrapper.get());
+    }
+
+    private static Entry unwrap(Object value) {
+        return value instanceof Entry ? (Entry) value : new Entry(value, Long.MAX_VALUE);
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -1,39 +1,154 @@
 package com.sdl.dxa.tridion.content;
 
+import com.sdl.dxa.tridion.http.PooledHttpClient;
 import com.sdl.web.pca.client.auth.Authentication;
 import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
+import com.sdl.webapp.common.util.FileUtils;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.pool.PoolStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 
+/**
+ * Downloads binaries from the content service.
+ * <p>Connections are pooled and kept alive between downloads, see {@link PooledHttpClient}. Only successful (2xx)
+ * responses are taken as content.</p>
+ */
+@Slf4j
 @Component
 @Profile("!cil.providers.active")
 public class BinaryContentDownloader {
 
-    private final CloseableHttpClient httpclient;
+    private final PooledHttpClient pool;
 
     @Autowired
     private Authentication authentication;
 
     public BinaryContentDownloader() {
-        httpclient = HttpClients.createDefault();
+        this(PooledHttpClient.withDefaults());
+    }
+
+    /**
+     * Creates a downloader with a pool of connections.
+     *
+     * @param maxPerRoute    maximum number of connections to the same host
+     * @param maxTotal       maximum number of connections
+     * @param connectTimeout timeout (ms) for connecting, also used as timeout for waiting for a connection from the pool
+     * @param readTimeout    timeout (ms) for waiting for data
+     * @param keepAlive      maximum time (ms) a connection is kept alive, if the server doesn't ask for a shorter one
+     * @param idleTimeout    time (ms) after which an idle connection is closed
+     */
+    @Autowired
+    public BinaryContentDownloader(@Value("${dxa.binary.download.max-per-route:" + PooledHttpClient.DEFAULT_MAX_PER_ROUTE + "}") int maxPerRoute,
+                                   @Value("${dxa.binary.download.max-total:" + PooledHttpClient.DEFAULT_MAX_TOTAL + "}") int maxTotal,
+                                   @Value("${dxa.binary.download.connect-timeout:" + PooledHttpClient.DEFAULT_CONNECT_TIMEOUT + "}") int connectTimeout,
+                                   @Value("${dxa.binary.download.read-timeout:" + PooledHttpClient.DEFAULT_READ_TIMEOUT + "}") int readTimeout,
+                                   @Value("${dxa.binary.download.keep-alive:" + PooledHttpClient.DEFAULT_KEEP_ALIVE + "}") long keepAlive,
+                                   @Value("${dxa.binary.download.idle-timeout:" + PooledHttpClient.DEFAULT_IDLE_TIMEOUT + "}") long idleTimeout) {
+        this(new PooledHttpClient(maxPerRoute, maxTotal, connectTimeout, readTimeout, keepAlive, idleTimeout));
+        log.debug("Binary downloads use up to {} connections, {} per host", maxTotal, maxPerRoute);
+    }
+
+    private BinaryContentDownloader(PooledHttpClient pool) {
+        this.pool = pool;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        pool.close();
+    }
+
+    /**
+     * Returns statistics of the connection pool: leased, pending (waiting for a connection), available and maximum
+     * number of connections.
+     *
+     * @return current statistics of the connection pool
+     */
+    public PoolStats getPoolStats() {
+        return pool.getPoolStats();
+    }
+
+    /**
+     * Returns the number of connections in use by downloads.
+     *
+     * @return number of leased connections
+     */
+    public int getLeasedConnections() {
+        return getPoolStats().getLeased();
+    }
+
+    /**
+     * Returns the number of downloads waiting for a connection, more than a few means the pool is too small.
+     *
+     * @return number of pending connection requests
+     */
+    public int getPendingConnections() {
+        return getPoolStats().getPending();
+    }
+
+    /**
+     * Returns the number of idle connections kept alive for next downloads.
+     *
+     * @return number of available connections
+     */
+    public int getAvailableConnections() {
+        return getPoolStats().getAvailable();
     }
 
     public byte[] downloadContent(File file, String downloadUrl) throws StaticContentNotLoadedException {
         HttpGet httpget = new HttpGet(downloadUrl);
         authentication.applyManualAuthentication(httpget);
-        try (CloseableHttpResponse response = httpclient.execute(httpget)) {
+        try (CloseableHttpResponse response = execute(httpget, file)) {
             return IOUtils.toByteArray(response.getEntity().getContent());
         } catch (IOException e) {
             throw new StaticContentNotLoadedException("Cannot download content for file " + file, e);
         }
     }
+
+    /**
+     * Downloads the content into the given path, usually a temporary file. The content is streamed to disk, so the memory
+     * used doesn't depend on the size of the file. The caller is responsible for moving the downloaded file into place
+     * (see {@link FileUtils#moveAtomically(Path, File)}) and for deleting it, also if the download fails.
+     *
+     * @param file        file the content is downloaded for
+     * @param downloadUrl URL to download the content from
+     * @param target      path to download the content to, overwritten if it exists
+     * @throws StaticContentNotLoadedException if the content cannot be downloaded
+     */
+    public void downloadToFile(File file, String downloadUrl, Path target) throws StaticContentNotLoadedException {
+        HttpGet httpget = new HttpGet(downloadUrl);
+        authentication.applyManualAuthentication(httpget);
+        try (CloseableHttpResponse response = execute(httpget, file);
+             InputStream content = response.getEntity().getContent()) {
+            FileUtils.copy(content, target);
+        } catch (IOException e) {
+            throw new StaticContentNotLoadedException("Cannot download content for file " + file, e);
+        }
+    }
+
+    /**
+     * Sends the request and checks that the content service responded with the content, so that an error page is
+     * never stored as the binary.
+     */
+    private CloseableHttpResponse execute(HttpGet httpget, File file) throws IOException, StaticContentNotLoadedException {
+        CloseableHttpResponse response = pool.getHttpClient().execute(httpget);
+        int status = response.getStatusLine().getStatusCode();
+        if (status < 200 || status >= 300) {
+            response.close();
+            throw new StaticContentNotLoadedException("Cannot download content for file " + file + ", " +
+                    httpget.getURI() + " responded with status " + response.getStatusLine());
+        }
+        return response;
+    }
 }
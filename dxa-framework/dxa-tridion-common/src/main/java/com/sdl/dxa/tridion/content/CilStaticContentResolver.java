@@ -1,10 +1,12 @@
 package com.sdl.dxa.tridion.content;
 
+import com.sdl.dxa.caching.SingleFlightLoader;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.content.StaticContentNotFoundException;
 import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
+import com.sdl.webapp.common.util.FileUtils;
 import com.sdl.webapp.common.util.ImageUtils;
 import com.sdl.webapp.common.util.TcmUtils;
 import com.tridion.broker.StorageException;
@@ -19,8 +21,6 @@ import com.tridion.meta.PublicationMetaFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.NotImplementedException;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.ImmutableTriple;
-import org.apache.commons.lang3.tuple.Triple;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
@@ -29,8 +29,7 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.io.File;
 import java.io.IOException;
-
-import static com.sdl.webapp.common.util.FileUtils.isToBeRefreshed;
+import java.io.InputStream;
 
 /**
  * Static content resolver is capable to resolve static (also versioned) binary content from broker database,
@@ -51,6 +50,11 @@ public class CilStaticContentResolver extends GenericStaticContentResolver imple
 
     private final PublicationMetaFactory webPublicationMetaFactory;
 
+    /**
+     * Concurrent refreshes of the same file share one load from the broker.
+     */
+    private final SingleFlightLoader<String, Boolean> downloads = new SingleFlightLoader<>();
+
     @Autowired
     public CilStaticContentResolver(WebApplicationContext webApplicationContext,
                                     DynamicMetaRetriever dynamicMetaRetriever,
@@ -71,11 +75,9 @@ public class CilStaticContentResolver extends GenericStaticContentResolver imple
 
         long componentTime = componentMeta.getLastPublicationDate().getTime();
 
-        boolean shouldRefresh = requestDto.isNoMediaCache() || isToBeRefreshed(file, componentTime);
-
-        if (shouldRefresh) {
-            log.debug("File needs to be refreshed: {}", file.getAbsolutePath());
-            refreshBinary(file, pathInfo, publicationId, binaryMeta, itemId);
+        boolean noMediaCache = requestDto.isNoMediaCache();
+        if (noMediaCache || isToBeRefreshedLocked(file, componentTime)) {
+            refreshBinary(file, pathInfo, publicationId, binaryMeta, itemId, componentTime, noMediaCache);
         } else {
             log.debug("File does not need to be refreshed: {}", file.getAbsolutePath());
         }
@@ -123,15 +125,55 @@ public class CilStaticContentResolver extends GenericStaticContentResolver imple
         return binaryMeta;
     }
 
-    private void refreshBinary(File file, ImageUtils.StaticContentPathInfo pathInfo, int publicationId, BinaryMeta binaryMeta, int itemId) throws ContentProviderException {
-        Triple<Integer, Integer, String> key = new ImmutableTriple<>(publicationId, itemId, binaryMeta.getVariantId());
-        try {
-            synchronized (key.toString().intern()) {
-                BinaryData binaryData = binaryFactory.getBinary(publicationId, itemId, binaryMeta.getVariantId());
-                refreshBinary(file, pathInfo, binaryData.getBytes());
+    private BinaryData getBinaryData(int publicationId, int itemId, BinaryMeta binaryMeta) throws IOException {
+        return binaryFactory.getBinary(publicationId, itemId, binaryMeta.getVariantId());
+    }
+
+    private void refreshBinary(File file, ImageUtils.StaticContentPathInfo pathInfo, int publicationId, BinaryMeta binaryMeta,
+                               int itemId, long componentTime, boolean noMediaCache) throws ContentProviderException {
+        downloads.load(file.getAbsolutePath(), () -> {
+            // the file may have been refreshed by a load which finished in the meantime
+            if (!noMediaCache && !isToBeRefreshedLocked(file, componentTime)) {
+                return false;
             }
-        } catch (IOException e) {
-            throw new StaticContentNotLoadedException("Cannot write new loaded content to a file " + file, e);
-        }
+            log.debug("File needs to be refreshed: {}", file.getAbsolutePath());
+            if (pathInfo.isImage() && pathInfo.isResized()) {
+                // only images to be resized are held in memory, everything else is streamed to disk
+                byte[] content;
+                try {
+                    content = getBinaryData(publicationId, itemId, binaryMeta).getBytes();
+                } catch (IOException e) {
+                    throw new StaticContentNotLoadedException("Cannot write new loaded content to a file " + file, e);
+                }
+                writeLocked(file, () -> refreshBinary(file, pathInfo, content));
+            } else {
+                refreshBinary(file, temp -> {
+                    try (InputStream content = getBinaryData(publicationId, itemId, binaryMeta).getInputStream()) {
+                        FileUtils.copy(content, temp);
+                    } catch (IOException e) {
+                        throw new StaticContentNotLoadedException("Cannot write new loaded content to a file " + file, e);
+                    }
+                });
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Returns how many refreshes of binaries have been started, rather than waiting for one of the same file in progress.
+     *
+     * @return number of started refreshes
+     */
+    public long getDownloads() {
+        return downloads.getLoads();
+    }
+
+    /**
+     * Returns how many refreshes of binaries have waited for a load of the same file which was already in progress.
+     *
+     * @return number of shared loads
+     */
+    public long getSharedDownloads() {
+        return downloads.getCoalescedLoads();
     }
 }
@@ -1,5 +1,6 @@
 package com.sdl.dxa.tridion.content;
 
+import com.google.common.util.concurrent.Striped;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
@@ -15,8 +16,14 @@ import org.springframework.web.util.UriUtils;
 import java.io.File;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
 import java.util.regex.Pattern;
 
+import static com.sdl.webapp.common.util.FileUtils.createTempFileFor;
+import static com.sdl.webapp.common.util.FileUtils.isToBeRefreshed;
+import static com.sdl.webapp.common.util.FileUtils.moveAtomically;
 import static com.sdl.webapp.common.util.FileUtils.parentFolderExists;
 
 @Slf4j
@@ -24,8 +31,15 @@ public abstract class GenericStaticContentResolver implements StaticContentResol
 
     private static final Pattern SYSTEM_VERSION_PATTERN = Pattern.compile("/system/v\\d+\\.\\d+/");
     private static final String STATIC_FILES_DIR = "BinaryData";
+    private static final String TEMP_FILES_DIR = "WEB-INF" + File.separator + "BinaryData.tmp";
     protected static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
 
+    /**
+     * Locks guarding the freshness check and the write of a file, striped by file path so unrelated files
+     * are refreshed in parallel.
+     */
+    private static final Striped<Lock> FILE_LOCKS = Striped.lock(64);
+
     protected WebApplicationContext webApplicationContext;
 
     @Override
@@ -61,6 +75,16 @@ public abstract class GenericStaticContentResolver implements StaticContentResol
         return StringUtils.join(new String[]{ webApplicationContext.getServletContext().getRealPath("/"), STATIC_FILES_DIR, publicationId }, File.separator);
     }
 
+    /**
+     * Returns the folder of the temporary files which binaries are written to before they are moved in place.
+     * It is in {@code WEB-INF}, so it is on the same file system as the {@code BinaryData} folder but is never served.
+     *
+     * @return folder of the temporary files
+     */
+    protected @NotNull File getTempFolder() {
+        return new File(webApplicationContext.getServletContext().getRealPath("/"), TEMP_FILES_DIR);
+    }
+
     private @NotNull StaticContentItem getStaticContentFileByPath(String path, StaticContentRequestDto requestDto) throws ContentProviderException {
         String parentPath = getPublicationPath(requestDto.getLocalizationId());
 
@@ -93,12 +117,85 @@ public abstract class GenericStaticContentResolver implements StaticContentResol
             if (log.isWarnEnabled() && file.exists() && !file.canWrite()) {
                 log.warn("File {} exists and cannot be written", file);
             }
-            ImageUtils.writeToFile(file, pathInfo, binaryContent);
+            ImageUtils.writeToFile(file, pathInfo, binaryContent, getTempFolder());
         } catch (IOException e) {
             throw new StaticContentNotLoadedException("Cannot write new loaded content to a file: " + file.getAbsolutePath(), e);
         }
     }
 
+    /**
+     * Replaces the file with the content the load writes to a temporary file, atomically so the file is never read
+     * partially written. The content is loaded before the lock of the file is taken, only the move holds it.
+     * The temporary file is deleted in any case.
+     *
+     * @param file file to replace
+     * @param load load of the content to the temporary file
+     * @throws ContentProviderException if the content cannot be loaded or the file cannot be replaced
+     */
+    protected void refreshBinary(File file, BinaryLoad load) throws ContentProviderException {
+        Path temp;
+        try {
+            temp = createTempFileFor(file, getTempFolder());
+        } catch (IOException e) {
+            throw new StaticContentNotLoadedException("Cannot create a temporary file for: " + file.getAbsolutePath(), e);
+        }
+        try {
+            load.loadTo(temp);
+            writeLocked(file, () -> replaceFile(file, temp));
+        } finally {
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("Cannot delete temporary file {}", temp, e);
+            }
+        }
+    }
+
+    private static void replaceFile(File file, Path loaded) throws ContentProviderException {
+        log.debug("Moving loaded content to file: {}", file);
+        try {
+            moveAtomically(loaded, file);
+        } catch (IOException e) {
+            throw new StaticContentNotLoadedException("Cannot write new loaded content to a file: " + file.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Writes the file while holding its lock, so it is never written concurrently nor checked while being written.
+     *
+     * @param file  file to write
+     * @param write write of the file
+     * @throws ContentProviderException if the file cannot be written
+     */
+    protected static void writeLocked(File file, FileWrite write) throws ContentProviderException {
+        Lock lock = FILE_LOCKS.get(file.getAbsolutePath());
+        lock.lock();
+        try {
+            write.write();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the file is older than the component while holding its lock, so it is never checked while
+     * being written.
+     *
+     * @param file          file to check
+     * @param componentTime last publication time of the component
+     * @return whether the file needs to be refreshed
+     * @throws ContentProviderException if the file cannot be checked
+     */
+    protected static boolean isToBeRefreshedLocked(File file, long componentTime) throws ContentProviderException {
+        Lock lock = FILE_LOCKS.get(file.getAbsolutePath());
+        lock.lock();
+        try {
+            return isToBeRefreshed(file, componentTime);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     @NotNull
     protected abstract StaticContentItem createStaticContentItem(
             StaticContentRequestDto requestDto,
@@ -111,4 +208,16 @@ public abstract class GenericStaticContentResolver implements StaticContentResol
     protected abstract @NotNull StaticContentItem getStaticContentItemById(int binaryId, StaticContentRequestDto requestDto) throws ContentProviderException;
 
     protected abstract String resolveLocalizationPath(StaticContentRequestDto requestDto) throws StaticContentNotLoadedException;
+
+    @FunctionalInterface
+    protected interface FileWrite {
+
+        void write() throws ContentProviderException;
+    }
+
+    @FunctionalInterface
+    protected interface BinaryLoad {
+
+        void loadTo(Path temp) throws ContentProviderException;
+    }
 }
@@ -1,6 +1,8 @@
 package com.sdl.dxa.tridion.content;
 
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sdl.dxa.caching.SingleFlightLoader;
 import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.dxa.tridion.pcaclient.GraphQLUtils;
@@ -12,6 +14,7 @@ import com.sdl.web.pca.client.contentmodel.generated.Publication;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.content.StaticContentNotFoundException;
+import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
 import com.sdl.webapp.common.exceptions.DxaItemNotFoundException;
 import com.sdl.webapp.common.util.ImageUtils;
 import lombok.extern.slf4j.Slf4j;
@@ -19,22 +22,41 @@ import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.joda.time.DateTime;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.WebApplicationContext;
 
+import javax.annotation.PreDestroy;
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import static com.sdl.dxa.tridion.common.ContextDataCreator.createContextData;
-import static com.sdl.webapp.common.util.FileUtils.isToBeRefreshed;
 
 @Slf4j
 @Service("graphQLStaticContentResolver")
 @Profile("!cil.providers.active")
 public class GraphQLStaticContentResolver extends GenericStaticContentResolver implements StaticContentResolver {
 
-    private static final Object LOCK = new Object();
+    /**
+     * Concurrent refreshes of the same file share one download.
+     */
+    private final SingleFlightLoader<String, Boolean> downloads = new SingleFlightLoader<>();
+
+    private final ThreadPoolExecutor publicationUrlRefresher = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(100),
+            new ThreadFactoryBuilder().setNameFormat("dxa-publication-url-refresh-%d").setDaemon(true).build());
+
+    /**
+     * Publication URLs are used to resolve the localization path of requests which don't have it, and almost never change.
+     */
+    private final PublicationUrlCache publicationUrls = new PublicationUrlCache(publicationUrlRefresher);
+
+    @Value("${dxa.localization.publication-url.refresh-seconds:600}")
+    private long publicationUrlRefreshSeconds = 600;
 
     private ApiClientProvider apiClientProvider;
     private BinaryContentDownloader contentDownloader;
@@ -46,6 +68,12 @@ public class GraphQLStaticContentResolver extends GenericStaticContentResolver i
         this.apiClientProvider = apiClientProvider;
         this.contentDownloader = contentDownloader;
         this.webApplicationContext = webApplicationContext;
+        this.publicationUrlRefresher.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        publicationUrlRefresher.shutdownNow();
     }
 
     @NotNull
@@ -89,22 +117,51 @@ public class GraphQLStaticContentResolver extends GenericStaticContentResolver i
         return this.processBinaryComponent(binaryComponent, requestDto, file, urlPath, pathInfo);
     }
 
-    private byte[] downloadBinary(File file, ImageUtils.StaticContentPathInfo pathInfo, BinaryComponent binaryComponent) throws ContentProviderException {
-        String downloadUrl = binaryComponent.getVariants().getEdges().get(0).getNode().getDownloadUrl();
-        return contentDownloader.downloadContent(file, downloadUrl);
+    private String getDownloadUrl(BinaryComponent binaryComponent) {
+        return binaryComponent.getVariants().getEdges().get(0).getNode().getDownloadUrl();
     }
 
-    public String resolveLocalizationPath(StaticContentRequestDto requestDto) {
+    public String resolveLocalizationPath(StaticContentRequestDto requestDto) throws StaticContentNotLoadedException {
         int publicationId = Integer.parseInt(requestDto.getLocalizationId());
         ContextData contextData = createContextData(requestDto.getClaims());
-        Publication publication = apiClientProvider.getClient().getPublication(
-                GraphQLUtils.convertUriToGraphQLContentNamespace(requestDto.getUriType()),
-                publicationId,
-                "",
-                contextData);
-        return publication.getPublicationUrl();
+        long refreshMillis = TimeUnit.SECONDS.toMillis(publicationUrlRefreshSeconds);
+        return publicationUrls.get(requestDto.getUriType(), publicationId, refreshMillis, () -> {
+            Publication publication = apiClientProvider.getClient().getPublication(
+                    GraphQLUtils.convertUriToGraphQLContentNamespace(requestDto.getUriType()),
+                    publicationId,
+                    "",
+                    contextData);
+            if (publication == null) {
+                throw new StaticContentNotLoadedException("Publication " + publicationId + " not found");
+            }
+            return publication.getPublicationUrl();
+        });
+    }
+
+    /**
+     * Drops the known publication URLs, for instance when publications may have been moved.
+     */
+    public void clearPublicationUrls() {
+        publicationUrls.clear();
+    }
+
+    /**
+     * Returns how many publication URLs have been loaded on first use, rather than found in memory.
+     *
+     * @return number of loaded publication URLs
+     */
+    public long getPublicationUrlLoads() {
+        return publicationUrls.getLoads();
+    }
 
-    };
+    /**
+     * Returns how many publication URLs have been refreshed in the background.
+     *
+     * @return number of refreshed publication URLs
+     */
+    public long getPublicationUrlRefreshes() {
+        return publicationUrls.getRefreshes();
+    }
 
     private boolean isVersioned(String path) {
         return (path != null) && path.contains("/system/");
@@ -129,20 +186,46 @@ public class GraphQLStaticContentResolver extends GenericStaticContentResolver i
 
     private void downloadBinaryWhenNeeded(BinaryComponent binaryComponent, File file, ImageUtils.StaticContentPathInfo pathInfo) throws ContentProviderException {
         long componentTime = new DateTime(binaryComponent.getLastPublishDate()).getMillis();
-        boolean toBeRefreshed = false;
-        synchronized (LOCK) {
-            toBeRefreshed = isToBeRefreshed(file, componentTime);
-        }
-        if (!toBeRefreshed) {
+        if (!isToBeRefreshedLocked(file, componentTime)) {
             log.debug("File does not need to be refreshed: {}", file.getAbsolutePath());
             return;
         }
-        log.debug("File needs to be refreshed: {}", file.getAbsolutePath());
-        byte[] content = downloadBinary(file, pathInfo, binaryComponent);
-        synchronized (LOCK) {
-            if (content != null) {
-                refreshBinary(file, pathInfo, content);
+        downloads.load(file.getAbsolutePath(), () -> {
+            // the file may have been refreshed by a download which finished in the meantime
+            if (!isToBeRefreshedLocked(file, componentTime)) {
+                return false;
             }
-        }
+            log.debug("File needs to be refreshed: {}", file.getAbsolutePath());
+            String downloadUrl = getDownloadUrl(binaryComponent);
+            if (pathInfo.isImage() && pathInfo.isResized()) {
+                // only images to be resized are held in memory, everything else is streamed to disk
+                byte[] content = contentDownloader.downloadContent(file, downloadUrl);
+                if (content == null) {
+                    return false;
+                }
+                writeLocked(file, () -> refreshBinary(file, pathInfo, content));
+            } else {
+                refreshBinary(file, temp -> contentDownloader.downloadToFile(file, downloadUrl, temp));
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Returns how many refreshes of binaries have been started, rather than waiting for one of the same file in progress.
+     *
+     * @return number of started refreshes
+     */
+    public long getDownloads() {
+        return downloads.getLoads();
+    }
+
+    /**
+     * Returns how many refreshes of binaries have waited for a download of the same file which was already in progress.
+     *
+     * @return number of shared downloads
+     */
+    public long getSharedDownloads() {
+        return downloads.getCoalescedLoads();
     }
 }
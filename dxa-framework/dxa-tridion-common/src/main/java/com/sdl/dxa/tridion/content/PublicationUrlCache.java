@@ -0,0 +1,111 @@
+package com.sdl.dxa.tridion.content;
+
+import com.sdl.dxa.caching.SingleFlightLoader;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publication URLs indexed by content namespace and publication id.
+ * <p>A URL is loaded once on first use, concurrent first uses sharing the load. Once older than the refresh interval
+ * it is still returned while a fresh one is loaded in the background, so requests never wait for the Content Service
+ * again; if the refresh fails, the known URL is kept and refreshed later.</p>
+ */
+@Slf4j
+final class PublicationUrlCache {
+
+    private final ConcurrentMap<String, Entry> urls = new ConcurrentHashMap<>();
+
+    private final SingleFlightLoader<String, String> loads = new SingleFlightLoader<>();
+
+    private final AtomicLong refreshes = new AtomicLong();
+
+    private final Executor refresher;
+
+    /**
+     * @param refresher executor running the refreshes
+     */
+    PublicationUrlCache(Executor refresher) {
+        this.refresher = refresher;
+    }
+
+    /**
+     * Returns the URL of the given publication, loading it if it is not known yet.
+     *
+     * @param namespace     content namespace of the publication
+     * @param publicationId id of the publication
+     * @param refreshMillis time after which the URL is refreshed in the background, {@code 0} or less never refreshes it
+     * @param loader        loader of the URL
+     * @param <E>           type of the exception the loader may throw
+     * @return URL of the publication
+     * @throws E if the URL is not known yet and cannot be loaded
+     */
+    <E extends Exception> String get(String namespace, int publicationId, long refreshMillis,
+                                     SingleFlightLoader.Loader<String, E> loader) throws E {
+        String key = namespace + ':' + publicationId;
+        Entry entry = urls.get(key);
+        if (entry == null) {
+            return loads.load(key, () -> {
+                Entry loaded = urls.get(key);
+                if (loaded != null) {
+                    return loaded.url;
+                }
+                String url = loader.load();
+                urls.put(key, new Entry(url));
+                return url;
+            });
+        }
+        if (refreshMillis > 0 && System.currentTimeMillis() - entry.loadedAt > refreshMillis
+                && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry, loader);
+        }
+        return entry.url;
+    }
+
+    private <E extends Exception> void refresh(String key, Entry entry, SingleFlightLoader.Loader<String, E> loader) {
+        try {
+            refresher.execute(() -> {
+                try {
+                    urls.replace(key, entry, new Entry(loader.load()));
+                    refreshes.incrementAndGet();
+                } catch (Exception e) {
+                    log.warn("Cannot refresh URL of publication {}, keeping {}", key, entry.url, e);
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresh of URL of publication {} rejected, trying again later", key, e);
+            entry.refreshing.set(false);
+        }
+    }
+
+    void clear() {
+        urls.clear();
+    }
+
+    long getLoads() {
+        return loads.getLoads();
+    }
+
+    long getRefreshes() {
+        return refreshes.get();
+    }
+
+    private static final class Entry {
+
+        private final String url;
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(String url) {
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.sdl.dxa.tridion.pcaclient;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sdl.web.pca.client.contentmodel.generated.ClaimValue;
+import com.sdl.web.pca.client.contentmodel.generated.ClaimValueType;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-request data which is passed to the PCA: the preview session token and the claims forwarded from the claim store.
+ * <p>The context is resolved once per request. The preview session token comes from the request headers and cookies,
+ * which don't change while the request is handled, so it is derived once per claim store. The forwarded claims are
+ * serialized again only if their values are no longer equal to the serialized ones, so they are not serialized for
+ * each client handed out during the same request.</p>
+ */
+@Slf4j
+final class ApiClientRequestContext {
+
+    private static final String REQUEST_ATTRIBUTE = ApiClientRequestContext.class.getName();
+
+    private final ClaimStore claimStore;
+
+    private final List<Object> rawClaims;
+
+    private final String previewToken;
+
+    private final List<ClaimValue> forwardedClaims;
+
+    private ApiClientRequestContext(ClaimStore claimStore, List<Object> rawClaims, String previewToken, List<ClaimValue> forwardedClaims) {
+        this.claimStore = claimStore;
+        this.rawClaims = rawClaims;
+        this.previewToken = previewToken;
+        this.forwardedClaims = forwardedClaims;
+    }
+
+    /**
+     * Returns the context of the current request.
+     *
+     * @param claimStore   claim store of the current request, may be {@code null}
+     * @param previewToken derives the preview session token of the current request, which may be {@code null}
+     * @param claimUris    URIs of the claims to forward, already parsed
+     * @param mapper       mapper used to serialize claim values
+     * @return context of the current request
+     */
+    static ApiClientRequestContext of(ClaimStore claimStore, Supplier<String> previewToken, List<URI> claimUris, ObjectMapper mapper) {
+        List<Object> rawClaims = rawClaims(claimStore, claimUris);
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object cached = attributes == null ? null : attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        ApiClientRequestContext known = cached instanceof ApiClientRequestContext && ((ApiClientRequestContext) cached).claimStore == claimStore ?
+                (ApiClientRequestContext) cached : null;
+        if (known != null && known.rawClaims.equals(rawClaims)) {
+            return known;
+        }
+
+        String token = known != null ? known.previewToken : previewToken.get();
+        ApiClientRequestContext context = new ApiClientRequestContext(claimStore, rawClaims, token, serialize(rawClaims, mapper));
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    String getPreviewToken() {
+        return previewToken;
+    }
+
+    List<ClaimValue> getForwardedClaims() {
+        return forwardedClaims;
+    }
+
+    /**
+     * Collects URIs and values of the forwarded claims in turn, without serializing them.
+     */
+    private static List<Object> rawClaims(ClaimStore claimStore, List<URI> claimUris) {
+        if (claimStore == null || claimUris.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = new ArrayList<>(claimUris.size() * 2);
+        for (URI uri : claimUris) {
+            Object value = claimStore.contains(uri) ? claimStore.get(uri) : null;
+            if (value != null) {
+                values.add(uri);
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static List<ClaimValue> serialize(List<Object> rawClaims, ObjectMapper mapper) {
+        if (rawClaims.isEmpty()) {
+            log.debug("No claims from claimstore to forward.");
+            return Collections.emptyList();
+        }
+        List<ClaimValue> claims = new ArrayList<>(rawClaims.size() / 2);
+        for (int i = 0; i < rawClaims.size(); i += 2) {
+            String uri = rawClaims.get(i).toString();
+            ClaimValue value = new ClaimValue();
+            value.setType(ClaimValueType.STRING);
+            value.setUri(uri);
+            try {
+                value.setValue(mapper.writeValueAsString(rawClaims.get(i + 1)));
+            } catch (JsonProcessingException e) {
+                throw new ApiClientConfigurationException("Unable to serialize claim " + uri, e);
+            }
+            claims.add(value);
+        }
+        return Collections.unmodifiableList(claims);
+    }
+
+}
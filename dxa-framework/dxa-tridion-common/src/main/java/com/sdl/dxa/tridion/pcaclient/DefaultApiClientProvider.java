@@ -1,7 +1,10 @@
 package com.sdl.dxa.tridion.pcaclient;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.DefaultApiClient;
 import com.sdl.web.pca.client.DefaultGraphQLClient;
@@ -9,52 +12,90 @@ import com.sdl.web.pca.client.GraphQLClient;
 import com.sdl.web.pca.client.auth.Authentication;
 import com.sdl.web.pca.client.contentmodel.enums.DataModelType;
 import com.sdl.web.pca.client.contentmodel.generated.ClaimValue;
-import com.sdl.web.pca.client.contentmodel.generated.ClaimValueType;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
 import com.tridion.configuration.ConfigurationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static com.sdl.dxa.tridion.common.ConfigurationConstants.CONNECTION_TIMEOUT;
 import static com.tridion.ambientdata.AmbientDataConfig.getAmbientDataConfig;
 
+/**
+ * Default {@link ApiClientProvider} which talks to the content service configured in {@code cd_client_conf.xml}.
+ * <p>GraphQL clients hold the HTTP connections to the content service, so they are long-lived and shared between
+ * requests: one client per preview session token, which is the only request-specific header. The {@link ApiClient}
+ * handed out on each call is a lightweight wrapper around it, carrying the per-request claims in its context data,
+ * so callers may still change its defaults without affecting others.</p>
+ */
 @Slf4j
 @Service("DefaultApiClientProvider")
 @Profile("!cil.providers.active")
 public class DefaultApiClientProvider implements ApiClientProvider {
 
-    private ApiClientConfigurationLoader configurationLoader;
-
-    private Authentication auth;
-
     private static final String X_PREVIEW_SESSION_TOKEN = "x-preview-session-token";
 
     private static final String PREVIEW_SESSION_TOKEN = "preview-session-token";
 
+    private static final String PREVIEW_SESSION_CLAIM = "taf:session:preview:preview_session";
+
+    private static final String NO_PREVIEW_TOKEN = "";
+
+    private ApiClientConfigurationLoader configurationLoader;
+
+    private Authentication auth;
+
     private Map<String, ClaimValue> globalClaims = new ConcurrentHashMap<>();
 
     private ObjectMapper mapper = new ObjectMapper();
 
-    @Autowired
+    private final Cache<String, GraphQLClient> graphQLClients;
+
+    private volatile List<URI> forwardedClaimUris;
+
+    private final AtomicLong clientsCreated = new AtomicLong();
+
+    private final AtomicLong clientsReused = new AtomicLong();
+
     public DefaultApiClientProvider(ApiClientConfigurationLoader configurationLoader,
                                     Authentication auth) {
+        this(configurationLoader, auth, 100, 30);
+    }
+
+    @Autowired
+    public DefaultApiClientProvider(ApiClientConfigurationLoader configurationLoader,
+                                    Authentication auth,
+                                    @Value("${dxa.graphql.client.pool.size:100}") int poolSize,
+                                    @Value("${dxa.graphql.client.pool.idle-minutes:30}") int idleMinutes) {
         this.configurationLoader = configurationLoader;
         this.auth = auth;
+        this.graphQLClients = CacheBuilder.newBuilder()
+                .maximumSize(poolSize)
+                .expireAfterAccess(idleMinutes, TimeUnit.MINUTES)
+                .removalListener(DefaultApiClientProvider::closeGraphQLClient)
+                .build();
     }
 
     @Override
@@ -77,83 +118,152 @@ public class DefaultApiClientProvider implements ApiClientProvider {
             log.debug("No claimstore found (is the ADF module configured in the Web.Config?) so unable to populate claims for PCA.");
         }
 
-        String previewToken = getClaimValue(WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
+        List<URI> claimUris = Collections.emptyList();
+        if (!configurationLoader.claimForwarding()) {
+            log.debug("Claim forwarding is disabled so no claim forwarding from claimstore will be performed.");
+        } else if (claimStore == null) {
+            log.debug("The claimstore is not available so no claim forwarding from claimstore will be performed. Make sure the ADF module is configured in the Web.Config to enable this option.");
+        } else {
+            claimUris = getForwardedClaimUris();
+        }
+        ApiClientRequestContext context = ApiClientRequestContext.of(claimStore, this::getPreviewToken, claimUris, mapper);
+
+        Integer requestTimeout = Integer.valueOf(configurationLoader.getConfiguration().getOrDefault(CONNECTION_TIMEOUT, 0).toString());
+        ApiClient client = new DefaultApiClient(getGraphQLClient(context.getPreviewToken()), requestTimeout);
+        client.setDefaultModelType(DataModelType.R2);
+
+        for (ClaimValue claim : globalClaims.values()) {
+            log.debug("Forwarding on global claim {} with value {}", claim.getUri(), claim.getValue());
+            client.getGlobalContextData().addClaimValue(claim);
+        }
+
+        for (ClaimValue claim : context.getForwardedClaims()) {
+            log.debug("Forwarding claim {} from claimstore to PCA client.", claim.getUri());
+            client.getGlobalContextData().addClaimValue(claim);
+        }
+
+        return client;
+    }
+
+    /**
+     * Returns how many GraphQL clients (and so connection pools) have been created.
+     *
+     * @return number of created GraphQL clients
+     */
+    public long getClientsCreated() {
+        return clientsCreated.get();
+    }
+
+    /**
+     * Returns how many times an existing GraphQL client and its connections have been reused.
+     *
+     * @return number of reuses of GraphQL clients
+     */
+    public long getClientsReused() {
+        return clientsReused.get();
+    }
+
+    /**
+     * Closes the pooled GraphQL clients when the application context shuts down.
+     */
+    @PreDestroy
+    public void destroy() {
+        graphQLClients.invalidateAll();
+    }
+
+    private String getPreviewToken() {
+        return getClaimValue(WebClaims.REQUEST_HEADERS, X_PREVIEW_SESSION_TOKEN,
                 claim -> Optional.of(((List<String>) claim).get(0)))
                 .orElseGet(() -> getClaimValue(WebClaims.REQUEST_COOKIES, PREVIEW_SESSION_TOKEN,
                         claim -> Optional.of(claim.toString()))
                 .orElse(null));
+    }
 
-        // Add context data to client
+    private GraphQLClient getGraphQLClient(String previewToken) {
+        String key = previewToken == null ? NO_PREVIEW_TOKEN : previewToken;
+        GraphQLClient client = graphQLClients.getIfPresent(key);
+        if (client != null) {
+            clientsReused.incrementAndGet();
+            return client;
+        }
+        try {
+            return graphQLClients.get(key, () -> createGraphQLClient(previewToken));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new ApiClientConfigurationException("Unable to create GraphQL client for " + configurationLoader.getServiceUrl(), e.getCause());
+        }
+    }
+
+    private GraphQLClient createGraphQLClient(String previewToken) {
         Map<String, String> defaultHeaders = new HashMap<>();
         if (previewToken != null) {
             defaultHeaders.put(HttpHeaders.COOKIE, String.format("%s=%s", PREVIEW_SESSION_TOKEN, previewToken));
         }
-        GraphQLClient graphQLClient = new DefaultGraphQLClient(configurationLoader.getServiceUrl(), defaultHeaders, auth);
-        Integer requestTimeout = Integer.valueOf(configurationLoader.getConfiguration().getOrDefault(CONNECTION_TIMEOUT, 0).toString());
-        ApiClient client = new DefaultApiClient(graphQLClient, requestTimeout);
-        client.setDefaultModelType(DataModelType.R2);
+        clientsCreated.incrementAndGet();
+        log.debug("Creating GraphQL client for {} ({} clients created so far)", configurationLoader.getServiceUrl(), clientsCreated.get());
+        return new DefaultGraphQLClient(configurationLoader.getServiceUrl(), defaultHeaders, auth);
+    }
 
-        for (ClaimValue claim : globalClaims.values()) {
-            log.debug("Forwarding on global claim {} with value {}", claim.getUri(), claim.getValue());
-            client.getGlobalContextData().addClaimValue(claim);
+    /**
+     * Closes a GraphQL client evicted from the pool, so that its connections are released.
+     */
+    private static void closeGraphQLClient(RemovalNotification<String, GraphQLClient> notification) {
+        GraphQLClient client = notification.getValue();
+        if (!(client instanceof AutoCloseable)) {
+            return;
         }
-
-        if (!configurationLoader.claimForwarding()) {
-            log.debug("The claimstore is not available so no claim forwarding from claimstore will be performed. Make sure the ADF module is configured in the Web.Config to enable this option.");
-            return client;
+        try {
+            ((AutoCloseable) client).close();
+            log.debug("Closed GraphQL client evicted from the pool ({})", notification.getCause());
+        } catch (Exception e) {
+            log.warn("Unable to close GraphQL client evicted from the pool", e);
         }
+    }
 
-        if (claimStore == null) {
-            log.debug("The claimstore is not available so no claim forwarding from claimstore will be performed. Make sure the ADF module is configured in the Web.Config to enable this option.");
-            return client;
+    /**
+     * Parses the forwarded claims from the ambient data configuration once, the configuration doesn't change at runtime.
+     * If the configuration cannot be read, no claims are forwarded and it is parsed again next time.
+     */
+    private List<URI> getForwardedClaimUris() {
+        List<URI> uris = forwardedClaimUris;
+        if (uris == null) {
+            uris = parseForwardedClaimUris();
+            if (uris == null) {
+                return Collections.emptyList();
+            }
+            forwardedClaimUris = uris;
         }
+        return uris;
+    }
+
+    /**
+     * @return URIs of the forwarded claims, or {@code null} if the ambient data configuration cannot be read
+     */
 
-        // Forward all claims
-        List<String> forwardedClaimValues = null;
+    private static List<URI> parseForwardedClaimUris() {
+        List<String> forwardedClaimValues;
         try {
             forwardedClaimValues = getAmbientDataConfig().getForwardedClaims().values().iterator().next();
         } catch (NullPointerException | ConfigurationException e) {
             log.warn("Unable to retrieve ambient data configuration and get forwarded claims");
-            return client;
+            return null;
         }
 
-        if (forwardedClaimValues == null || forwardedClaimValues.size() == 0) {
-            return client;
+        if (forwardedClaimValues == null || forwardedClaimValues.isEmpty()) {
+            return Collections.emptyList();
         }
 
-        Map<URI, Object> forwardedClaims = forwardedClaimValues.stream().map(url -> {
+        Set<URI> uris = new LinkedHashSet<>();
+        for (String url : forwardedClaimValues) {
             try {
-                return new URI(url);
+                URI uri = new URI(url);
+                if (!uri.toString().equals(PREVIEW_SESSION_CLAIM)) {
+                    uris.add(uri);
+                }
             } catch (URISyntaxException e) {
                 log.warn("Unable to parse uri: " + url);
-                return null;
             }
-        }).distinct().filter(uri -> uri != null
-                && claimStore.contains(uri)
-                && claimStore.get(uri) != null
-                && !uri.toString().equals("taf:session:preview:preview_session"))
-                .collect(Collectors.toMap(uri -> uri, uri -> claimStore.get(uri)));
-
-        if (forwardedClaims.size() == 0) {
-            log.debug("No claims from claimstore to forward.");
-            return client;
         }
-
-        for (Map.Entry<URI, Object> claim : forwardedClaims.entrySet()) {
-            log.debug("Forwarding claim {} from claimstore to PCA client.", claim.getKey().toString());
-            ClaimValue value = new ClaimValue();
-            value.setType(ClaimValueType.STRING);
-            value.setUri(claim.getKey().toString());
-            try {
-                String jsonValue = mapper.writeValueAsString(claim.getValue());
-                value.setValue(jsonValue);
-            } catch (JsonProcessingException e) {
-                throw new ApiClientConfigurationException("Unable to serialize claim " + claim.getKey().toString(), e);
-            }
-            client.getGlobalContextData().addClaimValue(value);
-        }
-
-        return client;
+        return Collections.unmodifiableList(new ArrayList<>(uris));
     }
 
     private Optional<String> getClaimValue(URI uri, String key, Function<Object, Optional<String>> deriveValue) {
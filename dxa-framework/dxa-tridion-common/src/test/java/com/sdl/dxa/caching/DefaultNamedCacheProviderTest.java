@@ -0,0 +1,48 @@
+package com.sdl.dxa.caching;
+
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+
+public class DefaultNamedCacheProviderTest {
+
+    private CacheManager cacheManager;
+
+    @Before
+    public void init() throws Exception {
+        cacheManager = Caching.getCachingProvider("org.ehcache.jsr107.EhcacheCachingProvider").getCacheManager(
+                getClass().getClassLoader().getResource("ehcache-stale-while-revalidate.xml").toURI(),
+                getClass().getClassLoader());
+    }
+
+    @After
+    public void close() {
+        cacheManager.close();
+    }
+
+    @Test
+    public void shouldExtendExpiryOfConfiguredCache() {
+        //when
+        Duration timeToLive = DefaultNamedCacheProvider.extendExpiry(cacheManager, "pageModels", 30);
+
+        //then
+        assertEquals(Duration.ofSeconds(60), timeToLive);
+        CacheRuntimeConfiguration<?, ?> configuration = cacheManager.getCache("pageModels")
+                .getConfiguration(Eh107Configuration.class).unwrap(CacheRuntimeConfiguration.class);
+        assertEquals(Duration.ofSeconds(90), configuration.getExpiryPolicy().getExpiryForCreation(null, null));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailIfCacheHasNoTimeToLive() {
+        //when
+        DefaultNamedCacheProvider.extendExpiry(cacheManager, "eternal", 30);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sdl.dxa.caching;
+
+import org.junit.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class StaleWhileRevalidateCacheTest {
+
+    @Test
+    public void shouldServeFreshValue() {
+        //given
+        StaleWhileRevalidateCache cache = cache(60_000, Runnable::run);
+        cache.put("key", "value");
+
+        //when
+        Cache.ValueWrapper wrapper = cache.get("key");
+
+        //then
+        assertEquals("value", wrapper.get());
+        assertEquals("value", cache.getOrRevalidate("key", () -> () -> {
+            throw new IllegalStateException("Fresh value should not be refreshed");
+        }).get());
+        assertEquals(0, cache.getStaleHits());
+    }
+
+    @Test
+    public void shouldServeExpiredValueAndRefreshIt() {
+        //given
+        StaleWhileRevalidateCache cache = cache(-1, Runnable::run);
+        cache.put("key", "old");
+        AtomicInteger calls = new AtomicInteger();
+        Callable<Object> refresh = () -> {
+            calls.incrementAndGet();
+            cache.put("key", "new");
+            return "new";
+        };
+
+        //when
+        Cache.ValueWrapper wrapper = cache.getOrRevalidate("key", () -> refresh);
+
+        //then
+        assertEquals("old", wrapper.get());
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getStaleHits());
+        assertEquals(1, cache.getRefreshes());
+    }
+
+    @Test
+    public void shouldNotReturnExpiredValueToRegularGet() {
+        //given
+        StaleWhileRevalidateCache cache = cache(-1, Runnable::run);
+        cache.put("key", "old");
+
+        //when
+        Cache.ValueWrapper wrapper = cache.get("key");
+
+        //then
+        assertNull(wrapper);
+        assertNull(cache.get("key", String.class));
+    }
+
+    @Test
+    public void shouldKeepExpiredValueIfRefreshFails() {
+        //given
+        StaleWhileRevalidateCache cache = cache(-1, Runnable::run);
+        cache.put("key", "old");
+
+        //when
+        cache.getOrRevalidate("key", () -> () -> {
+            throw new IllegalStateException("Backend is down");
+        });
+
+        //then
+        assertEquals("old", cache.getOrRevalidate("key", () -> () -> null).get());
+        assertEquals(1, cache.getFailedRefreshes());
+    }
+
+    @Test
+    public void shouldPostponeRefreshIfExecutorIsFull() {
+        //given
+        StaleWhileRevalidateCache cache = cache(-1, command -> {
+            throw new RejectedExecutionException();
+        });
+        cache.put("key", "old");
+
+        //when
+        Cache.ValueWrapper wrapper = cache.getOrRevalidate("key", () -> () -> null);
+
+        //then
+        assertEquals("old", wrapper.get());
+        assertEquals(1, cache.getRejectedRefreshes());
+        assertEquals(0, cache.getRefreshes());
+    }
+
+    private static StaleWhileRevalidateCache cache(long timeToLiveMillis, Executor executor) {
+        return new StaleWhileRevalidateCache(new ConcurrentMapCache("test"),
+                new StaleWhileRevalidatePolicy(timeToLiveMillis, 300_000, executor));
+    }
+}
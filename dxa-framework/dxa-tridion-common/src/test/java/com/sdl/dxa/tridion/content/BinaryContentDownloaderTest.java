@@ -0,0 +1,116 @@
+package com.sdl.dxa.tridion.content;
+
+import com.sdl.web.pca.client.auth.Authentication;
+import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+
+public class BinaryContentDownloaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+
+    private BinaryContentDownloader downloader;
+
+    @Before
+    public void init() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/binary", exchange -> {
+            byte[] content = exchange.getRequestURI().getQuery().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        });
+        server.createContext("/missing", exchange -> {
+            byte[] content = "Not found".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(404, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        });
+        server.start();
+
+        downloader = new BinaryContentDownloader(2, 4, 1000, 1000, 30000, 60000);
+        ReflectionTestUtils.setField(downloader, "authentication", mock(Authentication.class));
+    }
+
+    @After
+    public void destroy() throws Exception {
+        downloader.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReuseConnection_ForSubsequentDownloads() throws Exception {
+        //given
+        File file = new File(folder.getRoot(), "binary.pdf");
+
+        //when
+        String first = new String(downloader.downloadContent(file, url("first")), StandardCharsets.UTF_8);
+        Path second = folder.getRoot().toPath().resolve("second.tmp");
+        downloader.downloadToFile(file, url("second"), second);
+
+        //then
+        assertEquals("first", first);
+        assertEquals("second", new String(Files.readAllBytes(second), StandardCharsets.UTF_8));
+        assertEquals(0, downloader.getLeasedConnections());
+        assertEquals(0, downloader.getPendingConnections());
+        assertEquals(1, downloader.getAvailableConnections());
+        assertEquals(4, downloader.getPoolStats().getMax());
+    }
+
+    @Test
+    public void shouldNotTakeErrorResponse_AsContent() throws Exception {
+        //given
+        File file = new File(folder.getRoot(), "binary.pdf");
+        String missing = "http://localhost:" + server.getAddress().getPort() + "/missing";
+
+        //when
+        boolean downloaded = isDownloaded(() -> downloader.downloadContent(file, missing));
+        boolean downloadedToFile = isDownloaded(() -> downloader.downloadToFile(file, missing, folder.getRoot().toPath().resolve("binary.tmp")));
+
+        //then
+        assertFalse(downloaded);
+        assertFalse(downloadedToFile);
+        assertArrayEquals(new String[0], folder.getRoot().list());
+        assertEquals(0, downloader.getLeasedConnections());
+    }
+
+    private static boolean isDownloaded(Download download) {
+        try {
+            download.download();
+            return true;
+        } catch (StaticContentNotLoadedException e) {
+            return false;
+        }
+    }
+
+    private interface Download {
+
+        void download() throws StaticContentNotLoadedException;
+    }
+
+    private String url(String content) {
+        return "http://localhost:" + server.getAddress().getPort() + "/binary?" + content;
+    }
+}
@@ -24,6 +24,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.Date;
@@ -90,7 +91,7 @@ public class CilStaticContentResolverTest {
         when(componentMeta.getLastPublicationDate()).thenReturn(new Date());
 
         when(binaryFactory.getBinary(eq(42), eq(123), any())).thenReturn(binaryData);
-        when(binaryData.getBytes()).thenReturn("hello".getBytes());
+        mockContent("hello");
 
         MockServletContext context = new MockServletContext();
         when(webApplicationContext.getServletContext()).thenReturn(context);
@@ -103,7 +104,7 @@ public class CilStaticContentResolverTest {
     public void shouldResolveLocalizationPath_IfItIsNotPassedInRequest() throws ContentProviderException, StorageException, IOException {
         //given 
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/path_not_in_request", "42").build();
-        when(binaryData.getBytes()).thenReturn("path_not_in_request".getBytes());
+        mockContent("path_not_in_request");
 
         //when
         StaticContentItem item = staticContentResolver.getStaticContent(requestDto);
@@ -118,7 +119,7 @@ public class CilStaticContentResolverTest {
     public void shouldReturnRightContentType() throws IOException, ContentProviderException {
         //given 
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/content_type", "42").build();
-        when(binaryData.getBytes()).thenReturn("content_type".getBytes());
+        mockContent("content_type");
         when(binaryMeta.getType()).thenReturn("content_type");
 
         //when
@@ -133,7 +134,7 @@ public class CilStaticContentResolverTest {
         //given
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/all_data", "42")
                 .localizationPath("/publication").baseUrl("http://base").build();
-        when(binaryData.getBytes()).thenReturn("all_data".getBytes());
+        mockContent("all_data");
 
         //when
         StaticContentItem item = staticContentResolver.getStaticContent(requestDto);
@@ -151,7 +152,7 @@ public class CilStaticContentResolverTest {
         //given 
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/loc_root", "42")
                 .localizationPath("/").baseUrl("http://base").build();
-        when(binaryData.getBytes()).thenReturn("loc_root".getBytes());
+        mockContent("loc_root");
 
         //when
         staticContentResolver.getStaticContent(requestDto);
@@ -172,4 +173,26 @@ public class CilStaticContentResolverTest {
         assertTrue(new File(webApplicationContext.getServletContext().getRealPath("/")
                 + "/BinaryData/42/system/version").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldStreamFileToDisk_IfNotResizedImage() throws Exception {
+        //given
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/streamed.pdf", "42")
+                .localizationPath("/").baseUrl("http://base").build();
+        mockContent("streamed");
+
+        //when
+        StaticContentItem item = staticContentResolver.getStaticContent(requestDto);
+
+        //then
+        assertEquals("streamed", IOUtils.toString(item.getContent(), "UTF-8"));
+        verify(binaryData, never()).getBytes();
+        String[] tempFiles = new File(webApplicationContext.getServletContext().getRealPath("/") + "/WEB-INF/BinaryData.tmp").list();
+        assertEquals("no temporary files are left behind", 0, tempFiles == null ? 0 : tempFiles.length);
+    }
+
+    private void mockContent(String content) throws IOException {
+        when(binaryData.getBytes()).thenReturn(content.getBytes());
+        when(binaryData.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(content.getBytes()));
+    }
+}
@@ -12,6 +12,7 @@ import com.sdl.web.pca.client.contentmodel.generated.BinaryVariantEdge;
 import com.sdl.web.pca.client.contentmodel.generated.Publication;
 import com.sdl.webapp.common.api.content.ContentProviderException;
 import com.sdl.webapp.common.api.content.StaticContentItem;
+import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
 import com.tridion.broker.StorageException;
 import org.apache.commons.io.IOUtils;
 import org.junit.Before;
@@ -26,15 +27,31 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(PowerMockRunner.class)
@@ -106,7 +123,7 @@ public class GraphQLStaticContentResolverTest {
         //given
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/path_not_in_request", LOCALIZATION_ID).build();
         String binaryDataString = "path_not_in_request";
-        when(binaryContentDownloader.downloadContent(any(File.class), eq(DOWNLOAD_URL))).thenReturn(binaryDataString.getBytes());
+        mockDownload(binaryDataString);
 
         //when
         StaticContentItem item = graphQLStaticContentResolver.getStaticContent(requestDto);
@@ -116,10 +133,24 @@ public class GraphQLStaticContentResolverTest {
         assertFalse(item.isVersioned());
     }
 
+    @Test
+    public void shouldResolvePublicationUrlOnce() throws ContentProviderException {
+        //given
+        mockDownload("path_not_in_request");
+
+        //when
+        graphQLStaticContentResolver.getStaticContent(StaticContentRequestDto.builder("/first", LOCALIZATION_ID).build());
+        graphQLStaticContentResolver.getStaticContent(StaticContentRequestDto.builder("/second", LOCALIZATION_ID).build());
+
+        //then
+        verify(apiClient, times(1)).getPublication(eq(ContentNamespace.Sites), eq(42), eq(""), any(ContextData.class));
+        assertEquals(1, graphQLStaticContentResolver.getPublicationUrlLoads());
+    }
+
     @Test
     public void shouldReturnRightContentType() throws IOException, ContentProviderException {
         //given
-        when(binaryContentDownloader.downloadContent(any(File.class), eq(DOWNLOAD_URL))).thenReturn(BINARY_DATA_STRING.getBytes());
+        mockDownload(BINARY_DATA_STRING);
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/content_type", "42").build();
         binaryVariant.setType("content_type");
 
@@ -133,7 +164,7 @@ public class GraphQLStaticContentResolverTest {
     @Test
     public void shouldResolveFile_WhenRequested_WithAllData() throws Exception {
         //given
-        when(binaryContentDownloader.downloadContent(any(File.class), eq(DOWNLOAD_URL))).thenReturn("all_data".getBytes());
+        mockDownload("all_data");
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/all_data", "42")
                 .localizationPath("/publication").baseUrl("http://base").build();
 
@@ -150,7 +181,7 @@ public class GraphQLStaticContentResolverTest {
     @Test
     public void shouldNotAffectBinaryPath_IfLocalizationIsRoot() throws ContentProviderException, IOException {
         //given
-        when(binaryContentDownloader.downloadContent(any(File.class), eq(DOWNLOAD_URL))).thenReturn(BINARY_DATA_STRING.getBytes());
+        mockDownload(BINARY_DATA_STRING);
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/loc_root", "42")
                 .localizationPath("/").baseUrl("http://base").build();
 
@@ -174,7 +205,7 @@ public class GraphQLStaticContentResolverTest {
     @Test
     public void shouldRemoveVersionNumber_FromRequestedBinary() throws ContentProviderException {
         //given
-        when(binaryContentDownloader.downloadContent(any(File.class), eq(DOWNLOAD_URL))).thenReturn(BINARY_DATA_STRING.getBytes());
+        mockDownload(BINARY_DATA_STRING);
         StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/system/v1.2/version", "42").build();
 
         //when
@@ -188,4 +219,109 @@ public class GraphQLStaticContentResolverTest {
                         "/BinaryData/42/" + "publication URL/" +
                 "system/version").exists());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldDownloadEachFileOnce_WhenRequestedConcurrently() throws Exception {
+        //given
+        int files = 8;
+        int requestsPerFile = 4;
+        Map<String, AtomicInteger> downloadsPerFile = new ConcurrentHashMap<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            File file = (File) invocation.getArguments()[0];
+            downloadsPerFile.computeIfAbsent(file.getName(), name -> new AtomicInteger()).incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+            } finally {
+                running.decrementAndGet();
+            }
+            write(invocation.getArguments()[2], file.getName());
+            return null;
+        }).when(binaryContentDownloader).downloadToFile(any(File.class), eq(DOWNLOAD_URL), any(Path.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(files * requestsPerFile);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<StaticContentItem>> results = new ArrayList<>();
+        for (int request = 0; request < files * requestsPerFile; request++) {
+            StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/hammer/file-" + (request % files) + ".png", "42")
+                    .localizationPath("/").baseUrl("http://base").build();
+            results.add(executor.submit(() -> {
+                start.await();
+                return graphQLStaticContentResolver.getStaticContent(requestDto);
+            }));
+        }
+
+        //when
+        start.countDown();
+        for (Future<StaticContentItem> result : results) {
+            result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertEquals(files, downloadsPerFile.size());
+        for (int file = 0; file < files; file++) {
+            assertEquals(1, downloadsPerFile.get("file-" + file + ".png").get());
+            File written = new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42/hammer/file-" + file + ".png");
+            assertEquals("file-" + file + ".png", IOUtils.toString(written.toURI(), "UTF-8"));
+        }
+        assertTrue("different files are downloaded in parallel", maxRunning.get() > 1);
+    }
+
+    @Test
+    public void shouldStreamFileToDisk_IfNotResizedImage() throws Exception {
+        //given
+        mockDownload(BINARY_DATA_STRING);
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/streamed.pdf", "42")
+                .localizationPath("/").baseUrl("http://base").build();
+
+        //when
+        StaticContentItem item = graphQLStaticContentResolver.getStaticContent(requestDto);
+
+        //then
+        assertEquals(BINARY_DATA_STRING, IOUtils.toString(item.getContent(), "UTF-8"));
+        verify(binaryContentDownloader, never()).downloadContent(any(File.class), anyString());
+        assertNoTemporaryFiles();
+    }
+
+    @Test
+    public void shouldDeleteTemporaryFile_IfDownloadFails() throws Exception {
+        //given
+        doAnswer(invocation -> {
+            write(invocation.getArguments()[2], "partial");
+            throw new StaticContentNotLoadedException("Cannot download content");
+        }).when(binaryContentDownloader).downloadToFile(any(File.class), eq(DOWNLOAD_URL), any(Path.class));
+        StaticContentRequestDto requestDto = StaticContentRequestDto.builder("/failed.pdf", "42")
+                .localizationPath("/").baseUrl("http://base").build();
+
+        //when
+        try {
+            graphQLStaticContentResolver.getStaticContent(requestDto);
+            fail("download fails");
+        } catch (StaticContentNotLoadedException e) {
+            //then
+            assertFalse(new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42/failed.pdf").exists());
+            assertNoTemporaryFiles();
+        }
+    }
+
+    private void assertNoTemporaryFiles() {
+        File folder = new File(webApplicationContext.getServletContext().getRealPath("/") + "/BinaryData/42");
+        assertEquals("no temporary files are in served folder", 0, folder.listFiles((dir, name) -> name.endsWith(".tmp")).length);
+        String[] tempFiles = new File(webApplicationContext.getServletContext().getRealPath("/") + "/WEB-INF/BinaryData.tmp").list();
+        assertEquals("no temporary files are left behind", 0, tempFiles == null ? 0 : tempFiles.length);
+    }
+
+    private void mockDownload(String content) throws ContentProviderException {
+        doAnswer(invocation -> {
+            write(invocation.getArguments()[2], content);
+            return null;
+        }).when(binaryContentDownloader).downloadToFile(any(File.class), eq(DOWNLOAD_URL), any(Path.class));
+    }
+
+    private static void write(Object target, String content) throws IOException {
+        Files.write((Path) target, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.sdl.dxa.tridion.content;
+
+import com.sdl.webapp.common.api.content.StaticContentNotLoadedException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class PublicationUrlCacheTest {
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+
+    private final PublicationUrlCache cache = new PublicationUrlCache(refreshes::add);
+
+    @Test
+    public void shouldLoadUrlOnce() throws Exception {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        String first = cache.get("tcm", 42, 60_000, () -> "/url" + loads.incrementAndGet());
+        String second = cache.get("tcm", 42, 60_000, () -> "/url" + loads.incrementAndGet());
+
+        //then
+        assertEquals("/url1", first);
+        assertEquals("/url1", second);
+        assertEquals(1, cache.getLoads());
+        assertEquals(0, refreshes.size());
+    }
+
+    @Test
+    public void shouldIndexUrlsByNamespaceAndId() throws Exception {
+        //when
+        cache.get("tcm", 42, 60_000, () -> "/tcm42");
+        cache.get("ish", 42, 60_000, () -> "/ish42");
+        cache.get("tcm", 43, 60_000, () -> "/tcm43");
+
+        //then
+        assertEquals("/tcm42", cache.get("tcm", 42, 60_000, () -> "/other"));
+        assertEquals("/ish42", cache.get("ish", 42, 60_000, () -> "/other"));
+        assertEquals("/tcm43", cache.get("tcm", 43, 60_000, () -> "/other"));
+        assertEquals(3, cache.getLoads());
+    }
+
+    @Test
+    public void shouldReturnKnownUrl_AndRefreshItInBackground_WhenOld() throws Exception {
+        //given
+        cache.get("tcm", 42, 1, () -> "/old");
+        Thread.sleep(5);
+
+        //when
+        String stale = cache.get("tcm", 42, 1, () -> "/new");
+        String again = cache.get("tcm", 42, 1, () -> "/new");
+        refreshes.forEach(Runnable::run);
+
+        //then
+        assertEquals("/old", stale);
+        assertEquals("/old", again);
+        assertEquals("only one refresh is scheduled at a time", 1, refreshes.size());
+        assertEquals("/new", cache.get("tcm", 42, 60_000, () -> "/other"));
+        assertEquals(1, cache.getRefreshes());
+    }
+
+    @Test
+    public void shouldKeepKnownUrl_IfRefreshFails() throws Exception {
+        //given
+        cache.get("tcm", 42, 1, () -> "/old");
+        Thread.sleep(5);
+
+        //when
+        cache.get("tcm", 42, 1, () -> {
+            throw new StaticContentNotLoadedException("unavailable");
+        });
+        refreshes.forEach(Runnable::run);
+
+        //then
+        assertEquals("/old", cache.get("tcm", 42, 60_000, () -> "/other"));
+        assertEquals(0, cache.getRefreshes());
+    }
+
+    @Test(expected = StaticContentNotLoadedException.class)
+    public void shouldThrowException_IfUrlCannotBeLoaded() throws Exception {
+        //when
+        cache.get("tcm", 42, 60_000, () -> {
+            throw new StaticContentNotLoadedException("unavailable");
+        });
+    }
+}
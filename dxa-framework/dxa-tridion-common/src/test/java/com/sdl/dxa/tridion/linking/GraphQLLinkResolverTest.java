@@ -10,8 +10,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -56,4 +61,19 @@ public class GraphQLLinkResolverTest {
         String binaryLinkresult = linkResolver.resolveLink("tcm:2-3", "2", true);
         assertEquals("/media/baloon.png", binaryLinkresult);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resolveLinksTogether() {
+        when(publicContentApi.resolveComponentLink(ContentNamespace.Sites, 2, 3, 5, null, true)).thenReturn("/first.html");
+        when(publicContentApi.resolveComponentLink(ContentNamespace.Sites, 2, 4, 5, null, true)).thenReturn("/second.html");
+        when(publicContentApi.resolvePageLink(ContentNamespace.Sites, 2, 6, true)).thenReturn("/third.html");
+
+        Map<String, String> links = linkResolver.resolveLinks(Arrays.asList("tcm:2-3", "tcm:2-4", "tcm:2-6-64", "tcm:2-3"), "2", false, "tcm:2-5-64");
+
+        assertEquals(3, links.size());
+        assertEquals("/first.html", links.get("tcm:2-3"));
+        assertEquals("/second.html", links.get("tcm:2-4"));
+        assertEquals("/third.html", links.get("tcm:2-6-64"));
+        verify(publicContentApi, times(1)).resolveComponentLink(ContentNamespace.Sites, 2, 3, 5, null, true);
+    }
+}
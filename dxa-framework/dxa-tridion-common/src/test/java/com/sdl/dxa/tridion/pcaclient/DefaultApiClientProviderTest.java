@@ -1,5 +1,6 @@
 package com.sdl.dxa.tridion.pcaclient;
 
+import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.auth.Authentication;
 import org.junit.Before;
 import org.junit.Test;
@@ -9,7 +10,9 @@ import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -33,4 +36,16 @@ public class DefaultApiClientProviderTest {
     public void getClient() {
         assertNotNull(apiClientProvider.getClient());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReuseGraphQLClientBetweenApiClients() {
+        //when
+        ApiClient first = apiClientProvider.getClient();
+        ApiClient second = apiClientProvider.getClient();
+
+        //then
+        assertNotSame(first, second);
+        assertEquals(1, apiClientProvider.getClientsCreated());
+        assertEquals(1, apiClientProvider.getClientsReused());
+    }
+}
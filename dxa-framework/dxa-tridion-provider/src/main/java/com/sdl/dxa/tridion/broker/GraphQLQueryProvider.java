@@ -51,9 +51,10 @@ public class GraphQLQueryProvider implements QueryProvider {
     @Override
     public List<Item> executeQueryItems(SimpleBrokerQuery queryParams) {
         String key = queryParams.toString();
+        boolean sessionPreview = webRequestContext.getSnapshot().isSessionPreview();
 
         SimpleValueWrapper simpleValueWrapper = null;
-        if (!webRequestContext.isSessionPreview()) {
+        if (!sessionPreview) {
             simpleValueWrapper = (SimpleValueWrapper) queryCache.get(key);
         }
 
@@ -81,7 +82,7 @@ public class GraphQLQueryProvider implements QueryProvider {
             cursor = n > 0 ? results.getEdges().get(n - 1).getCursor() : null;
             result = hasMore ? resultList.subList(0, queryParams.getPageSize()) : resultList;
 
-            if (!webRequestContext.isSessionPreview()) {
+            if (!sessionPreview) {
                 queryCache.put(key, result);
             }
         }
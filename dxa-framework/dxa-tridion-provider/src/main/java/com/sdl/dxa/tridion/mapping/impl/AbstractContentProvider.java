@@ -1,6 +1,9 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
-import com.sdl.dxa.common.ClaimValues;
+import com.sdl.dxa.caching.ModelCacheKey;
+import com.sdl.dxa.caching.SingleFlightLoader;
+import com.sdl.dxa.caching.StaleWhileRevalidateCache;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
@@ -8,8 +11,8 @@ import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.PageModel;
 import com.sdl.webapp.common.exceptions.DxaException;
-import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebContext;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +32,18 @@ public abstract class AbstractContentProvider {
     private final Cache pagemodelCache;
     private final Cache entitymodelCache;
 
+    /**
+     * Coalesces concurrent backend loads of the same page model, exposes the number of original and coalesced loads.
+     */
+    @Getter
+    private final SingleFlightLoader<ModelCacheKey, PageModel> pageModelLoader = new SingleFlightLoader<>();
+
+    /**
+     * Coalesces concurrent backend loads of the same entity model, exposes the number of original and coalesced loads.
+     */
+    @Getter
+    private final SingleFlightLoader<ModelCacheKey, EntityModel> entityModelLoader = new SingleFlightLoader<>();
+
     protected AbstractContentProvider(WebRequestContext webRequestContext, CacheManager cacheManager) {
         this.webRequestContext = webRequestContext;
         this.pagemodelCache = cacheManager.getCache("pageModels");
@@ -44,6 +59,7 @@ public abstract class AbstractContentProvider {
     /**
      * This default implementation handles caching and cloning the pagemodel.
      * Actually getting the page model from the backend is done in loadPage.
+     * The returned page shares its entities with the cached one, see {@link PageModel#filteredCopy}.
      *
      * @param path path
      * @param localization Localization object
@@ -55,30 +71,34 @@ public abstract class AbstractContentProvider {
         long time = System.currentTimeMillis();
         try {
             Assert.notNull(localization);
-            String key = createKeyForCacheByPath(path, localization, "pagemodel");
+            RequestSnapshot snapshot = snapshotFor(localization);
+            boolean sessionPreview = snapshot.isSessionPreview();
+            ModelCacheKey key = createKeyForCacheByPath(path, snapshot, "pagemodel");
+            SingleFlightLoader.Loader<PageModel, ContentProviderException> load = () -> {
+                PageModel loaded = loadPage(path, localization);
+                if (loaded.canBeCached() && !sessionPreview) {
+                    pagemodelCache.put(key, loaded);
+                    pagemodelCache.put(createKeyForCacheById(loaded.getId(), snapshot, "pagemodel"), loaded);
+                }
+                return loaded;
+            };
             SimpleValueWrapper simpleValueWrapper = null;
-            if (!webRequestContext.isSessionPreview()) {
-                simpleValueWrapper = (SimpleValueWrapper) pagemodelCache.get(key);
+            if (!sessionPreview) {
+                simpleValueWrapper = getCached(pagemodelCache, key, load, snapshot);
             }
             if (simpleValueWrapper != null) {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
             } else {
                 //Not in cache, load from backend.
-                pageModel = loadPage(path, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getId(), localization, "pagemodel"), pageModel);
-                }
+                pageModel = loadOnce(pageModelLoader, key, load, sessionPreview);
             }
             try {
-                // Make a deep copy
-                pageModel = pageModel.deepCopy();
+                //the cached pagemodel is never modified, the filtered copy shares its entities
+                pageModel = pageModel.filteredCopy(entityEvaluators);
             } catch (DxaException e) {
                 throw new ContentProviderException("PageModel for " + key + " cannot be copied", e);
             }
-            //filterConditionalEntities modifies the pagemodel, that is why the deep copy is done.
-            pageModel.filterConditionalEntities(entityEvaluators);
 
             webRequestContext.setPage(pageModel);
             return pageModel;
@@ -94,14 +114,25 @@ public abstract class AbstractContentProvider {
         }
     }
 
+    /**
+     * Takes the snapshot models are requested with, once per request for models: the values of the current request,
+     * the localization the models are requested for and the fingerprint of the current claims.
+     */
+    private RequestSnapshot snapshotFor(Localization localization) {
+        return webRequestContext.getSnapshot().toBuilder()
+                .localization(localization)
+                .claimsFingerprint(ClaimsFingerprint.of(WebContext.getCurrentClaimStore()))
+                .build();
+    }
+
     @NotNull
-    private String createKeyForCacheByPath(String path, Localization localization, String type) {
-        return type + " [" + path + "] " + localization.getId() + getClaimCacheKey() ;
+    private static ModelCacheKey createKeyForCacheByPath(String path, RequestSnapshot snapshot, String type) {
+        return ModelCacheKey.byPath(type, snapshot.getLocalization().getId(), path, snapshot.getClaimsFingerprint());
     }
 
     @NotNull
-    private String createKeyForCacheById(String id, Localization localization, String type) {
-        return createKeyForCacheByPath("[" + id + "]", localization, type);
+    private static ModelCacheKey createKeyForCacheById(String id, RequestSnapshot snapshot, String type) {
+        return ModelCacheKey.byId(type, snapshot.getLocalization().getId(), id, snapshot.getClaimsFingerprint());
     }
 
     /**
@@ -118,31 +149,35 @@ public abstract class AbstractContentProvider {
         long time = System.currentTimeMillis();
         try {
             Assert.notNull(localization);
-            String key = createKeyForCacheById("" + pageId, localization, "pagemodel");
+            RequestSnapshot snapshot = snapshotFor(localization);
+            boolean sessionPreview = snapshot.isSessionPreview();
+            ModelCacheKey key = createKeyForCacheById(String.valueOf(pageId), snapshot, "pagemodel");
+            SingleFlightLoader.Loader<PageModel, ContentProviderException> load = () -> {
+                PageModel loaded = loadPage(pageId, localization);
+                if (loaded.canBeCached() && !sessionPreview) {
+                    pagemodelCache.put(key, loaded);
+                    pagemodelCache.put(createKeyForCacheByPath(loaded.getUrl(), snapshot, "pagemodel"), loaded);
+                }
+                return loaded;
+            };
 
             SimpleValueWrapper simpleValueWrapper = null;
-            if (!webRequestContext.isSessionPreview()) {
-                simpleValueWrapper = (SimpleValueWrapper) pagemodelCache.get(key);
+            if (!sessionPreview) {
+                simpleValueWrapper = getCached(pagemodelCache, key, load, snapshot);
             }
             if (simpleValueWrapper != null) {
                 //Pagemodel is in cache
                 pageModel = (PageModel) simpleValueWrapper.get();
             } else {
                 //Not in cache, load from backend.
-                pageModel = loadPage(pageId, localization);
-                if (pageModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                    pagemodelCache.put(key, pageModel);
-                    pagemodelCache.put(createKeyForCacheByPath(pageModel.getUrl(), localization, "pagemodel"), pageModel);
-                }
+                pageModel = loadOnce(pageModelLoader, key, load, sessionPreview);
             }
             try {
-                // Make a deep copy
-                pageModel = pageModel.deepCopy();
+                //the cached pagemodel is never modified, the filtered copy shares its entities
+                pageModel = pageModel.filteredCopy(entityEvaluators);
             } catch (DxaException e) {
                 throw new ContentProviderException("PageModel for " + key + " cannot be copied", e);
             }
-            //filterConditionalEntities modifies the pagemodel, that is why the deep copy is done.
-            pageModel.filterConditionalEntities(entityEvaluators);
 
             webRequestContext.setPage(pageModel);
             return pageModel;
@@ -158,28 +193,26 @@ public abstract class AbstractContentProvider {
     }
 
     /**
-     * Create a cache key for the current claims.
-     * @return cache key
+     * Gets a model from the cache. If the cache serves stale values, an expired model is returned
+     * and refreshed in background with the snapshot the model has been requested with.
      */
-    private String getClaimCacheKey() {
-        ClaimStore currentClaimStore = WebContext.getCurrentClaimStore();
-        if (currentClaimStore == null || currentClaimStore.getClaimValues() == null || currentClaimStore.getClaimValues().isEmpty()) {
-            return " noclaims";
+    private static SimpleValueWrapper getCached(Cache cache, ModelCacheKey key,
+                                                SingleFlightLoader.Loader<?, ContentProviderException> load,
+                                                RequestSnapshot snapshot) {
+        if (cache instanceof StaleWhileRevalidateCache) {
+            return (SimpleValueWrapper) ((StaleWhileRevalidateCache) cache).getOrRevalidate(key, () -> DetachedRefresh.of(key, load, snapshot));
         }
-        String conditions = currentClaimStore
-                .getClaimValues()
-                .entrySet()
-                .stream()
-                .map(Object::toString)
-                .filter(obj -> obj.startsWith(ClaimValues.ISH_CONDITIONS))
-                .collect(java.util.stream.Collectors.joining(","));
-        //remove all <prop>=null properties
-        conditions = conditions
-                .replaceAll("([ ,{])([_0-9-]|\\pL)++=null", "$1<-n->")
-                .replaceAll("(,\\s<-n->)++", ",<-n->")
-                .replaceAll(",<-n->,","\n\n")
-                .replaceAll("\\{<-n->\\n", "{");
-        return com.google.common.base.Strings.isNullOrEmpty(conditions) ? " noclaims" : " claims:" + conditions;
+        return (SimpleValueWrapper) cache.get(key);
+    }
+
+    /**
+     * Loads a model, coalescing concurrent loads of the same key unless in session preview,
+     * where models are neither cached nor shared between requests.
+     */
+    private <T> T loadOnce(SingleFlightLoader<ModelCacheKey, T> loader, ModelCacheKey key,
+                           SingleFlightLoader.Loader<T, ContentProviderException> load,
+                           boolean sessionPreview) throws ContentProviderException {
+        return sessionPreview ? load.load() : loader.load(key, load);
     }
 
     abstract PageModel loadPage(String path, Localization localization) throws ContentProviderException;
@@ -193,10 +226,22 @@ public abstract class AbstractContentProvider {
     public EntityModel getEntityModel(@NotNull String id, Localization localization) throws ContentProviderException {
         Assert.notNull(id);
         long time = System.currentTimeMillis();
-        String key = createKeyForCacheById(id, localization, "entitymodel");
+        RequestSnapshot snapshot = snapshotFor(localization);
+        boolean sessionPreview = snapshot.isSessionPreview();
+        ModelCacheKey key = createKeyForCacheById(id, snapshot, "entitymodel");
+        SingleFlightLoader.Loader<EntityModel, ContentProviderException> load = () -> {
+            EntityModel loaded = getEntityModel(id);
+            if (loaded.getXpmMetadata() != null) {
+                loaded.getXpmMetadata().put("IsQueryBased", true);
+            }
+            if (loaded.canBeCached() && !sessionPreview) {
+                entitymodelCache.put(key, loaded);
+            }
+            return loaded;
+        };
         SimpleValueWrapper simpleValueWrapper = null;
-        if (!webRequestContext.isSessionPreview()) {
-            simpleValueWrapper = (SimpleValueWrapper) entitymodelCache.get(key);
+        if (!sessionPreview) {
+            simpleValueWrapper = getCached(entitymodelCache, key, load, snapshot);
         }
         EntityModel entityModel = null;
         if (simpleValueWrapper != null) {
@@ -204,13 +249,7 @@ public abstract class AbstractContentProvider {
             entityModel = (EntityModel) simpleValueWrapper.get();
         } else {
             //Not in cache, load from backend.
-            entityModel = getEntityModel(id);
-            if (entityModel.getXpmMetadata() != null) {
-                entityModel.getXpmMetadata().put("IsQueryBased", true);
-            }
-            if (entityModel.canBeCached() && !webRequestContext.isSessionPreview()) {
-                entitymodelCache.put(key, entityModel);
-            }
+            entityModel = loadOnce(entityModelLoader, key, load, sessionPreview);
         }
 
         try {
@@ -0,0 +1,58 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.tridion.ambientdata.AmbientDataContext;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the claims of the current request to work done for it in another thread, together with
+ * {@link com.sdl.webapp.common.impl.RequestContextPropagation} which carries the rest of the request context.
+ * <p>The claims are copied when captured, so the work neither sees nor makes changes to the claim store of the request.
+ * Tasks bound to the same capture share the copy and only read it.</p>
+ */
+final class ClaimStorePropagation {
+
+    private final ClaimStore claimStore;
+
+    private ClaimStorePropagation(ClaimStore claimStore) {
+        this.claimStore = claimStore;
+    }
+
+    /**
+     * Captures the claims of the current request, must be called in the request thread.
+     *
+     * @return claims to bind tasks to
+     */
+    static ClaimStorePropagation capture() {
+        return new ClaimStorePropagation(copyOf(AmbientDataContext.getCurrentClaimStore()));
+    }
+
+    private static ClaimStore copyOf(ClaimStore claimStore) {
+        if (claimStore == null) {
+            return null;
+        }
+        ClaimStore copy = new ClaimStore();
+        claimStore.getAll().forEach(copy::put);
+        return copy;
+    }
+
+    /**
+     * Wraps the task so that it runs with the captured claims, restoring the claim store of its thread afterwards.
+     *
+     * @param task task to wrap
+     * @param <T>  type of the task result
+     * @return task bound to the captured claims
+     */
+    <T> Callable<T> bind(Callable<T> task) {
+        return () -> {
+            ClaimStore previousClaimStore = AmbientDataContext.getCurrentClaimStore();
+            AmbientDataContext.setCurrentClaimStore(claimStore);
+            try {
+                return task.call();
+            } finally {
+                AmbientDataContext.setCurrentClaimStore(previousClaimStore);
+            }
+        };
+    }
+}
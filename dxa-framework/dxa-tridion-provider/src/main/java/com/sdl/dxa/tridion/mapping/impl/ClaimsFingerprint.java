@@ -0,0 +1,135 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.caching.ModelCacheKey;
+import com.sdl.dxa.common.ClaimValues;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical representation of the claims which influence page and entity models, used as part of {@link ModelCacheKey}.
+ * <p>Only ISH user conditions claims are taken into account. Properties without a value are left out and
+ * the map-valued claims are sorted, so equal conditions always give equal fingerprints.
+ * The fingerprint is computed once per request together with a copy of the claims it has been computed from, and
+ * computed again only if the claims are no longer equal to the copy, whether a claim has been replaced or changed
+ * in place.</p>
+ */
+final class ClaimsFingerprint {
+
+    private static final String REQUEST_ATTRIBUTE = ClaimsFingerprint.class.getName();
+
+    private final ClaimStore claimStore;
+
+    private final List<Object> claimValues;
+
+    private final String fingerprint;
+
+    private ClaimsFingerprint(ClaimStore claimStore, List<Object> claimValues, String fingerprint) {
+        this.claimStore = claimStore;
+        this.claimValues = claimValues;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of the given claims.
+     *
+     * @param claimStore claim store of the current request, may be {@code null}
+     * @return fingerprint of the claims, {@link ModelCacheKey#NO_CLAIMS} if there are no relevant claims
+     */
+    static String of(ClaimStore claimStore) {
+        List<Object> values = conditionClaims(claimStore);
+        if (values.isEmpty()) {
+            return ModelCacheKey.NO_CLAIMS;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object cached = attributes == null ? null : attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof ClaimsFingerprint && ((ClaimsFingerprint) cached).isFor(claimStore, values)) {
+            return ((ClaimsFingerprint) cached).fingerprint;
+        }
+
+        ClaimsFingerprint computed = new ClaimsFingerprint(claimStore, copyOf(values), compute(values));
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, computed, RequestAttributes.SCOPE_REQUEST);
+        }
+        return computed.fingerprint;
+    }
+
+    /**
+     * Collects keys and values of condition claims in turn, without copying or formatting them.
+     */
+    private static List<Object> conditionClaims(ClaimStore claimStore) {
+        Map<URI, Object> claims = claimStore == null ? null : claimStore.getClaimValues();
+        if (claims == null || claims.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Object> values = null;
+        for (Map.Entry<URI, Object> claim : claims.entrySet()) {
+            if (claim.getKey().toString().startsWith(ClaimValues.ISH_CONDITIONS)) {
+                if (values == null) {
+                    values = new ArrayList<>(2);
+                }
+                values.add(claim.getKey());
+                values.add(claim.getValue());
+            }
+        }
+        return values == null ? Collections.emptyList() : values;
+    }
+
+    private boolean isFor(ClaimStore claimStore, List<Object> values) {
+        return this.claimStore == claimStore && this.claimValues.size() == values.size() && this.claimValues.equals(values);
+    }
+
+    /**
+     * Copies the map-valued claims, so that a claim changed in place is no longer equal to the copy.
+     */
+    private static List<Object> copyOf(List<Object> values) {
+        List<Object> copy = new ArrayList<>(values.size());
+        for (Object value : values) {
+            copy.add(copyOf(value));
+        }
+        return copy;
+    }
+
+    private static Object copyOf(Object value) {
+        if (!(value instanceof Map)) {
+            return value;
+        }
+        Map<Object, Object> copy = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            copy.put(entry.getKey(), copyOf(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static String compute(List<Object> values) {
+        Map<String, String> sorted = new TreeMap<>();
+        for (int i = 0; i < values.size(); i += 2) {
+            sorted.put(values.get(i).toString(), canonical(values.get(i + 1)));
+        }
+        StringBuilder builder = new StringBuilder("claims:");
+        sorted.forEach((key, value) -> builder.append(key).append('=').append(value).append(';'));
+        return builder.toString();
+    }
+
+    private static String canonical(Object value) {
+        if (!(value instanceof Map)) {
+            return String.valueOf(value);
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+            if (entry.getValue() != null) {
+                sorted.put(String.valueOf(entry.getKey()), canonical(entry.getValue()));
+            }
+        }
+        return sorted.toString();
+    }
+}
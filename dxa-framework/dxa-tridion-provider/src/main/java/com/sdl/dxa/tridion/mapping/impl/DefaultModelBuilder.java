@@ -1,6 +1,7 @@
 package com.sdl.dxa.tridion.mapping.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.sdl.dxa.api.datamodel.model.BinaryContentData;
 import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.ExternalContentData;
@@ -12,9 +13,12 @@ import com.sdl.dxa.api.datamodel.model.util.ListWrapper;
 import com.sdl.dxa.tridion.mapping.EntityModelBuilder;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.mapping.PageModelBuilder;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider.MappingContext;
 import com.sdl.webapp.common.api.WebRequestContext;
+import com.sdl.webapp.common.api.content.LinkResolver;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMapper;
+import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingRegistry;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
 import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
@@ -36,20 +40,36 @@ import com.sdl.webapp.common.api.model.mvcdata.MvcDataCreator;
 import com.sdl.webapp.common.api.model.mvcdata.MvcDataImpl;
 import com.sdl.webapp.common.api.model.page.DefaultPageModel;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.sdl.webapp.common.impl.RequestContextPropagation;
+import com.sdl.webapp.common.util.InstantiationUtils;
+import com.sdl.webapp.common.util.TcmUtils;
+import com.sdl.webapp.tridion.linking.AbstractLinkResolver;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
 
-import java.lang.reflect.Constructor;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Default implementation of {@link EntityModelBuilder} and {@link PageModelBuilder}. Priority of this builder is always {@code highest precedence}.
@@ -60,6 +80,10 @@ import java.util.stream.Collectors;
 @Service
 public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder {
 
+    private static final ThreadLocal<Boolean> IN_PARALLEL_BUILD = new ThreadLocal<>();
+
+    private static final String SELF_PROPERTY = "_self";
+
     @Autowired
     private ViewModelRegistry viewModelRegistry;
 
@@ -72,6 +96,61 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     @Autowired
     private WebRequestContext webRequestContext;
 
+    @Autowired
+    private LinkResolver linkResolver;
+
+    @Autowired
+    private SemanticMappingRegistry semanticMappingRegistry;
+
+    private final InheritedSemanticSchemas inheritedSemanticSchemas = new InheritedSemanticSchemas();
+
+    @Value("${dxa.modelbuilder.parallel.enabled:false}")
+    private boolean parallelBuildEnabled;
+
+    @Value("${dxa.modelbuilder.parallel.threads:0}")
+    private int parallelBuildThreads;
+
+    @Value("${dxa.modelbuilder.parallel.queue:1000}")
+    private int parallelBuildQueue;
+
+    @Value("${dxa.modelbuilder.parallel.min-entities:4}")
+    private int parallelBuildMinEntities;
+
+    @Value("${dxa.modelbuilder.links.prefetch:false}")
+    private boolean linkPrefetchEnabled;
+
+    private ExecutorService parallelBuildExecutor;
+
+    private final ConcurrentMap<Class<?>, Boolean> selfLinkedTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts the workers building entities in parallel, if enabled. When the workers are all busy and the queue is full,
+     * the request thread builds the entity itself.
+     * It also does so after shutdown, so a request never waits for an entity that is never built.
+     */
+    @PostConstruct
+    public void initParallelBuild() {
+        if (!parallelBuildEnabled) {
+            return;
+        }
+        int threads = parallelBuildThreads > 0 ? parallelBuildThreads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(parallelBuildQueue),
+                new ThreadFactoryBuilder().setNameFormat("dxa-model-builder-%d").setDaemon(true).build(),
+                (task, rejectingExecutor) -> task.run());
+        executor.allowCoreThreadTimeOut(true);
+        parallelBuildExecutor = executor;
+        log.info("Parallel entity model build is enabled with {} threads for regions with at least {} entities",
+                threads, parallelBuildMinEntities);
+    }
+
+    @PreDestroy
+    public void destroyParallelBuild() {
+        if (parallelBuildExecutor != null) {
+            parallelBuildExecutor.shutdown();
+        }
+    }
+
     @Override
     public int getOrder() {
         return HIGHEST_PRECEDENCE;
@@ -86,7 +165,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     public <T extends EntityModel> T buildEntityModel(@Nullable T originalEntityModel,
                                                       @NotNull EntityModelData modelData,
                                                       @Nullable Class<T> expectedClass) throws DxaException {
-        try {
+        try (MappingContext.Build build = MappingContext.startBuild()) {
             MvcData mvcData = null;
             Class<? extends ViewModel> modelType;
             if (expectedClass != null) {
@@ -144,7 +223,7 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
             semanticSchema = localization.getSemanticSchemas().get(schemaId);
         } else {
             if (allSchemas.isEmpty()) {
-                return viewModelType.newInstance();
+                return InstantiationUtils.newInstance(viewModelType);
             }
             semanticSchema = allSchemas.get(0);
         }
@@ -154,18 +233,23 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     }
 
     protected List<SemanticSchema> getInheritedSemanticSchemas(ViewModelData viewModelData, Localization localization) {
+        List<String> schemaIds = getInheritedSchemaIds(viewModelData);
+        if (schemaIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return inheritedSemanticSchemas.getSchemas(localization.getSemanticSchemas(), schemaIds);
+    }
+
+    @NotNull
+    private static List<String> getInheritedSchemaIds(@NotNull ViewModelData viewModelData) {
         Object schemas = viewModelData.getExtensionData() != null ? viewModelData.getExtensionData().get("Schemas") : null;
         if (schemas == null ||
             !(schemas instanceof ListWrapper) ||
             ((ListWrapper) schemas).getValues().isEmpty()) {
             return Collections.emptyList();
         }
-        ListWrapper<String> allInheritedSchemas = (ListWrapper<String>) schemas;
-        return allInheritedSchemas.getValues()
-                .stream()
-                .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        //noinspection unchecked
+        return ((ListWrapper<String>) schemas).getValues();
     }
 
     @NotNull
@@ -174,33 +258,14 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
         if (semanticSchema == null) {
             return Collections.emptyMap();
         }
-        final Map<FieldSemantics, SemanticField> semanticFields = semanticSchema.getSemanticFields();
-
-        if (modelData.getExtensionData() == null) {
-            return semanticFields;
+        List<String> schemaIds = getInheritedSchemaIds(modelData);
+        if (schemaIds.isEmpty()) {
+            return semanticSchema.getSemanticFields();
         }
-        Object schemas = modelData.getExtensionData().get("Schemas");
-        if (schemas == null ||
-            !(schemas instanceof ListWrapper) ||
-            ((ListWrapper) schemas).getValues().isEmpty()) {
-            return semanticFields;
-        }
-        if (log.isDebugEnabled()) log.debug("Found additional semantic schemas {} used in the view model {}", schemas, modelData);
+        if (log.isDebugEnabled()) log.debug("Found additional semantic schemas {} used in the view model {}", schemaIds, modelData);
 
         Localization localization = webRequestContext.getLocalization();
-        Map<FieldSemantics, SemanticField> allAncestorsSemanticFields = new HashMap<>(semanticFields);
-
-                //noinspection unchecked
-        ListWrapper<String> inheritedSchemas = (ListWrapper<String>) schemas;
-        allAncestorsSemanticFields.putAll(inheritedSchemas.getValues()
-                .stream()
-                        .map(schemaId -> localization.getSemanticSchemas().get(Long.parseLong(schemaId)))
-                        .filter(Objects::nonNull)
-                        .map(SemanticSchema::getSemanticFields)
-                        .flatMap(fieldMap -> fieldMap.entrySet().stream())
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
-        return allAncestorsSemanticFields;
+        return inheritedSemanticSchemas.getMergedFields(localization.getSemanticSchemas(), semanticSchema, schemaIds);
     }
 
     void fillViewModel(@NotNull ViewModel viewModel, @NotNull ViewModelData modelData) {
@@ -255,22 +320,108 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
      */
     @Override
     public PageModel buildPageModel(@Nullable PageModel originalPageModel, @NotNull PageModelData modelData) throws SemanticMappingException {
-        PageModel pageModel = instantiatePageModel(originalPageModel, modelData);
-
-        if (pageModel == null) {
-            log.info("Page Model is null, for model data id = {}", modelData.getId());
-            return null;
-        }
-        webRequestContext.setPageContextId(modelData.getId());
-
-        fillViewModel(pageModel, modelData);
-        pageModel.setId(modelData.getId());
-        pageModel.setMeta(modelData.getMeta());
-        pageModel.setName(modelData.getTitle());
-        pageModel.setTitle(getPageTitle(modelData));
-        pageModel.setUrl(modelData.getUrlPath());
-        processRegions(modelData.getRegions(), pageModel.getRegions());
-        return pageModel;
+        try (MappingContext.Build build = MappingContext.startBuild()) {
+            PageModel pageModel = instantiatePageModel(originalPageModel, modelData);
+
+            if (pageModel == null) {
+                log.info("Page Model is null, for model data id = {}", modelData.getId());
+                return null;
+            }
+            webRequestContext.setPageContextId(modelData.getId());
+
+            fillViewModel(pageModel, modelData);
+            pageModel.setId(modelData.getId());
+            pageModel.setMeta(modelData.getMeta());
+            pageModel.setName(modelData.getTitle());
+            pageModel.setTitle(getPageTitle(modelData));
+            pageModel.setUrl(modelData.getUrlPath());
+            if (linkPrefetchEnabled) {
+                prefetchLinks(modelData.getRegions(), modelData.getId());
+            }
+            processRegions(modelData.getRegions(), pageModel.getRegions());
+            return pageModel;
+        }
+    }
+
+    /**
+     * Resolves the links of the page in one go, before the entities are built and resolve their links one by one,
+     * which then finds them already resolved. These are the links to the entities whose view models have a self-link
+     * field, and the TCM URIs in the fields of the entities, which are resolved within the page when mapped to links.
+     */
+    private void prefetchLinks(List<RegionModelData> regions, String pageId) {
+        String localizationId = webRequestContext.getLocalization().getId();
+        Set<String> selfLinks = new LinkedHashSet<>();
+        Set<String> fieldLinks = new LinkedHashSet<>();
+        collectLinks(regions, localizationId, selfLinks, fieldLinks);
+        try {
+            if (!selfLinks.isEmpty()) {
+                linkResolver.resolveLinks(selfLinks, localizationId, false, null);
+            }
+            if (!fieldLinks.isEmpty()) {
+                linkResolver.resolveLinks(fieldLinks, localizationId, false, pageId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Cannot resolve the links of the page together, they are resolved one by one", e);
+        }
+    }
+
+    private void collectLinks(List<RegionModelData> regions, String localizationId, Set<String> selfLinks, Set<String> fieldLinks) {
+        if (regions == null) {
+            return;
+        }
+        for (RegionModelData region : regions) {
+            if (region.getEntities() != null) {
+                for (EntityModelData entity : region.getEntities()) {
+                    if (entity == null) {
+                        continue;
+                    }
+                    String id = entity.getId();
+                    if (!Strings.isNullOrEmpty(id) && hasSelfLink(entity)) {
+                        selfLinks.add(TcmUtils.isTcmUri(id) ? id : TcmUtils.buildTcmUri(localizationId, id));
+                    }
+                    collectTcmUris(entity.getContent(), fieldLinks);
+                    collectTcmUris(entity.getMetadata(), fieldLinks);
+                }
+            }
+            collectLinks(region.getRegions(), localizationId, selfLinks, fieldLinks);
+        }
+    }
+
+    private boolean hasSelfLink(EntityModelData entity) {
+        Class<? extends ViewModel> viewModelType;
+        try {
+            viewModelType = viewModelRegistry.getViewModelType(createMvcData(entity.getMvcData(), DefaultsMvcData.ENTITY));
+        } catch (DxaException | RuntimeException e) {
+            log.debug("Cannot determine the view model of entity {}, its link is not prefetched", entity.getId(), e);
+            return false;
+        }
+        return viewModelType != null && selfLinkedTypes.computeIfAbsent(viewModelType, type -> {
+            AtomicBoolean selfLinked = new AtomicBoolean();
+            ReflectionUtils.doWithFields(type, field -> {
+                for (FieldSemantics semantics : semanticMappingRegistry.getFieldSemantics(field)) {
+                    if (SELF_PROPERTY.equals(semantics.getPropertyName())) {
+                        selfLinked.set(true);
+                    }
+                }
+            });
+            return selfLinked.get();
+        });
+    }
+
+    private static void collectTcmUris(Object value, Set<String> uris) {
+        if (value instanceof String) {
+            if (TcmUtils.isTcmUri((String) value)) {
+                uris.add((String) value);
+            }
+        } else if (value instanceof Map) {
+            for (Object nested : ((Map<?, ?>) value).values()) {
+                collectTcmUris(nested, uris);
+            }
+        } else if (value instanceof ListWrapper) {
+            for (Object nested : ((ListWrapper<?>) value).getValues()) {
+                collectTcmUris(nested, uris);
+            }
+        }
     }
 
     void processRegions(List<RegionModelData> regions,
@@ -356,16 +507,73 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     }
 
     void addEntitiesToRegionModels(RegionModelData regionModelData, RegionModel regionModel) {
-        if (regionModelData.getEntities() == null) {
+        List<EntityModelData> entities = regionModelData.getEntities();
+        if (entities == null) {
+            return;
+        }
+        if (!isParallelBuild(entities.size())) {
+            entities.stream()
+                    .map(entityModelData -> createEntityModel(entityModelData, regionModelData.getName()))
+                    .forEach(regionModel::addEntity);
             return;
         }
-        regionModelData.getEntities().stream()
-                .map(entityModelData -> {
-                    EntityModel entityModel = createEntityModel(entityModelData);
-                    MvcDataImpl.MvcDataImplBuilder creator = MvcDataCreator.creator(entityModel.getMvcData()).builder().regionName(regionModelData.getName());
-                    entityModel.setMvcData(creator.build());
-                    return entityModel;
-                }).forEach(regionModel::addEntity);
+
+        log.debug("Building {} entities of region {} in parallel", entities.size(), regionModelData.getName());
+        // workers get a read-only snapshot of the request and the links resolved for it, never the request scope itself
+        RequestContextPropagation request = RequestContextPropagation.capture(webRequestContext.getSnapshot(),
+                AbstractLinkResolver.RESOLVED_LINKS_ATTRIBUTE);
+        ClaimStorePropagation claims = ClaimStorePropagation.capture();
+        String pageContextId = webRequestContext.getPageContextId();
+        List<Future<EntityModel>> futures = new ArrayList<>(entities.size());
+        for (EntityModelData entityModelData : entities) {
+            futures.add(parallelBuildExecutor.submit(request.bind(claims.bind(() -> {
+                IN_PARALLEL_BUILD.set(Boolean.TRUE);
+                try {
+                    webRequestContext.setPageContextId(pageContextId);
+                    return createEntityModel(entityModelData, regionModelData.getName());
+                } finally {
+                    IN_PARALLEL_BUILD.remove();
+                }
+            }))));
+        }
+        // entities are added in the order of the model data, whatever order they are built in
+        for (Future<EntityModel> future : futures) {
+            regionModel.addEntity(awaitEntityModel(future, futures));
+        }
+    }
+
+    private EntityModel createEntityModel(EntityModelData entityModelData, String regionName) {
+        EntityModel entityModel = createEntityModel(entityModelData);
+        MvcDataImpl.MvcDataImplBuilder creator = MvcDataCreator.creator(entityModel.getMvcData()).builder().regionName(regionName);
+        entityModel.setMvcData(creator.build());
+        return entityModel;
+    }
+
+    /**
+     * Entities of a region are built in parallel if enabled and there are enough of them. Entities which are built
+     * in parallel already never build their nested entities in parallel, so workers never wait for each other.
+     */
+    private boolean isParallelBuild(int entities) {
+        return parallelBuildExecutor != null && entities >= parallelBuildMinEntities && IN_PARALLEL_BUILD.get() == null;
+    }
+
+    private static EntityModel awaitEntityModel(Future<EntityModel> future, List<Future<EntityModel>> all) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            all.forEach(other -> other.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building entity models", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Exception happened while building an entity model", cause);
+        }
     }
 
     void processOwnSchema(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType, RegionModel regionModel, String schemaId) {
@@ -385,16 +593,11 @@ public class DefaultModelBuilder implements EntityModelBuilder, PageModelBuilder
     }
 
     ViewModel createRegionModel(RegionModelData regionModelData, Class<? extends ViewModel> viewModelType) throws ReflectiveOperationException {
-        Constructor<? extends ViewModel> constructorExists = null;
-        for (Constructor constructor : viewModelType.getDeclaredConstructors()){
-            if (constructor.getParameterTypes().length == 1 && constructor.getParameterTypes()[0] == String.class) {
-                constructorExists = (Constructor<? extends ViewModel>)constructor;
-            }
-        }
-        if (constructorExists == null) {
-            throw new IllegalStateException("ViewModel implementor class (" + viewModelType.getCanonicalName() + ") should have had constructor with single String 'name' argument");
+        try {
+            return InstantiationUtils.newInstance(viewModelType, regionModelData.getName());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("ViewModel implementor class (" + viewModelType.getCanonicalName() + ") should have had constructor with single String 'name' argument", e);
         }
-        return constructorExists.newInstance(regionModelData.getName());
     }
 
     EntityModel createEntityModel(EntityModelData entityModelData) {
@@ -28,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.TypeDescriptor;
 
 import java.util.HashMap;
@@ -46,9 +47,11 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
     @Getter
     private SemanticSchema semanticSchema;
 
-    private GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+    private final MappingContext mappingContext;
 
-    private ModelBuilderPipeline pipeline;
+    private final GenericSemanticModelDataConverter genericSemanticModelDataConverter;
+
+    private final ModelBuilderPipeline pipeline;
 
     private int embeddingLevel = 0;
 
@@ -56,25 +59,38 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
 
     private String context = null;
 
-    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema) {
+    private DefaultSemanticFieldDataProvider(ModelDataWrapper dataWrapper, SemanticSchema semanticSchema, MappingContext mappingContext) {
         this.dataWrapper = dataWrapper;
         this.semanticSchema = semanticSchema;
-        this.genericSemanticModelDataConverter = getContext().getBean(GenericSemanticModelDataConverter.class);
-        this.pipeline = getContext().getBean(ModelBuilderPipeline.class);
+        this.mappingContext = mappingContext;
+        this.genericSemanticModelDataConverter = mappingContext.getConverter();
+        this.pipeline = mappingContext.getPipeline();
     }
 
     @Nullable
     public static DefaultSemanticFieldDataProvider getFor(ViewModelData model, SemanticSchema semanticSchema) {
-        return getFor((Object) model, semanticSchema);
+        return getFor(model, semanticSchema, MappingContext.current());
     }
 
     @Nullable
-    private static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema) {
+    private static DefaultSemanticFieldDataProvider getFor(@NotNull Object model, SemanticSchema semanticSchema, MappingContext mappingContext) {
         if (!(model instanceof CanWrapContentAndMetadata)) {
             log.debug("Type {} is not supported by embedded SemanticFieldDataProvider", model.getClass());
             return null;
         }
-        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema);
+        return new DefaultSemanticFieldDataProvider(((CanWrapContentAndMetadata) model).getDataWrapper(), semanticSchema, mappingContext);
+    }
+
+    /**
+     * Creates a data provider for another model met while mapping the model of this data provider, for instance
+     * a keyword, sharing the semantic schema and the mapping context of this data provider.
+     *
+     * @param model model to provide data of
+     * @return data provider of the model, or {@code null} if the model is not supported
+     */
+    @Nullable
+    public DefaultSemanticFieldDataProvider forModel(ViewModelData model) {
+        return getFor(model, semanticSchema, mappingContext);
     }
 
     /**
@@ -87,7 +103,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider iteration(Object model, SemanticField semanticField, int index) {
-        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(model, semanticSchema, mappingContext);
         if (provider != null) {
             provider.embeddingLevel = this.embeddingLevel;
             provider.iteration = index + 1;
@@ -106,7 +122,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
      */
     @Nullable
     public DefaultSemanticFieldDataProvider embedded(Object value) {
-        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema);
+        DefaultSemanticFieldDataProvider provider = getFor(value, this.semanticSchema, mappingContext);
         if (provider != null) {
             provider.iteration = this.iteration;
             provider.context = this.context;
@@ -213,7 +229,7 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
             return Optional.empty();
         }
 
-        String localizationId = getContext().getBean(WebRequestContext.class).getLocalization().getId();
+        String localizationId = mappingContext.getWebRequestContext().getLocalization().getId();
         return Optional.of(TcmUtils.buildTcmUri(localizationId, modelData.getId()));
     }
 
@@ -249,4 +265,89 @@ public class DefaultSemanticFieldDataProvider implements SemanticFieldDataProvid
         return Optional.ofNullable(field);
     }
 
+    /**
+     * Beans used by all the data providers of a model build. They are looked up once per build rather than for each
+     * of the many providers created while mapping a page. A build is started with {@link #startBuild()} and its
+     * context is held for the current thread until the build ends, nested builds share the context of the outermost
+     * one. Outside of a build every root provider gets a context of its own.
+     */
+    static final class MappingContext {
+
+        private static final ThreadLocal<MappingContext> BUILD = new ThreadLocal<>();
+
+        private final ApplicationContext applicationContext;
+
+        private GenericSemanticModelDataConverter converter;
+
+        private ModelBuilderPipeline pipeline;
+
+        /**
+         * Request-scoped proxy, looked up on first use since not every build needs it.
+         */
+        private WebRequestContext webRequestContext;
+
+        private MappingContext(ApplicationContext applicationContext) {
+            this.applicationContext = applicationContext;
+        }
+
+        /**
+         * Starts a model build in the current thread, unless one is already running.
+         *
+         * @return the build, to be closed when the model is built
+         */
+        static Build startBuild() {
+            if (BUILD.get() != null) {
+                return Build.NESTED;
+            }
+            BUILD.set(new MappingContext(getContext()));
+            return Build.OUTERMOST;
+        }
+
+        static MappingContext current() {
+            MappingContext mappingContext = BUILD.get();
+            return mappingContext != null ? mappingContext : new MappingContext(getContext());
+        }
+
+        private GenericSemanticModelDataConverter getConverter() {
+            if (converter == null) {
+                converter = applicationContext.getBean(GenericSemanticModelDataConverter.class);
+            }
+            return converter;
+        }
+
+        private ModelBuilderPipeline getPipeline() {
+            if (pipeline == null) {
+                pipeline = applicationContext.getBean(ModelBuilderPipeline.class);
+            }
+            return pipeline;
+        }
+
+        private WebRequestContext getWebRequestContext() {
+            if (webRequestContext == null) {
+                webRequestContext = applicationContext.getBean(WebRequestContext.class);
+            }
+            return webRequestContext;
+        }
+
+        /**
+         * Model build running in the current thread, ending it when closed.
+         */
+        enum Build implements AutoCloseable {
+            OUTERMOST {
+                @Override
+                public void close() {
+                    BUILD.remove();
+                }
+            },
+            NESTED {
+                @Override
+                public void close() {
+                    // the outermost build ends the context
+                }
+            };
+
+            @Override
+            public abstract void close();
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.caching.SingleFlightLoader;
+import com.sdl.webapp.common.api.RequestSnapshot;
+import com.sdl.webapp.common.api.content.ContentProviderException;
+import com.sdl.webapp.common.impl.RequestContextPropagation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Background refresh of a cached model, detached from the request that triggered it.
+ * <p>What model building needs from the request is captured when the refresh is scheduled: the {@link RequestSnapshot}
+ * the model has been requested with, its localization already resolved, and a copy of the claims, see
+ * {@link RequestContextPropagation} and {@link ClaimStorePropagation}. The refresh runs with a request scope of its
+ * own, so request-scoped beans are created anew for it from the snapshot and never reach the servlet request, which
+ * completes without waiting for the refresh.</p>
+ */
+@Slf4j
+final class DetachedRefresh implements Callable<Object> {
+
+    private final Object key;
+
+    private final Callable<Object> refresh;
+
+    private DetachedRefresh(Object key, Callable<Object> refresh) {
+        this.key = key;
+        this.refresh = refresh;
+    }
+
+    /**
+     * Creates a refresh from the current request, must be called in the request thread.
+     *
+     * @param key      cache key of the model
+     * @param loader   loader which loads the model and puts it to the cache
+     * @param snapshot snapshot the model has been requested with, with its localization
+     * @return refresh to be called in a background thread
+     */
+    static DetachedRefresh of(Object key, SingleFlightLoader.Loader<?, ContentProviderException> loader, RequestSnapshot snapshot) {
+        Assert.notNull(snapshot.getLocalization(), "Localization has to be resolved before the refresh is detached");
+        RequestContextPropagation request = RequestContextPropagation.capture(snapshot);
+        Callable<Object> load = () -> {
+            log.debug("Refreshing {} detached from request {}", key, snapshot.getFullUrl());
+            return loader.load();
+        };
+        return new DetachedRefresh(key, request.bind(ClaimStorePropagation.capture().bind(load)));
+    }
+
+    @Override
+    public Object call() throws Exception {
+        return refresh.call();
+    }
+
+    @Override
+    public String toString() {
+        return "DetachedRefresh of " + key;
+    }
+}
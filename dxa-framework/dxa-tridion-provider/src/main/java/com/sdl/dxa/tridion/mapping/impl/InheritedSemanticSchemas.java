@@ -0,0 +1,88 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticFieldIndex;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Memoizes the inherited semantic schemas of view models and their merged semantic fields.
+ * <p>Results are kept per semantic schemas map of a localization, compared by identity. When the semantic schemas
+ * of a localization are reloaded, a new map is created, so the results for the old map are not used anymore
+ * and are garbage collected together with it.</p>
+ */
+final class InheritedSemanticSchemas {
+
+    private final LoadingCache<Map<Long, SemanticSchema>, ConcurrentMap<List<String>, List<SemanticSchema>>> schemas =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(allSchemas -> new ConcurrentHashMap<>()));
+
+    private final LoadingCache<Map<Long, SemanticSchema>, ConcurrentMap<Pair<Long, List<String>>, SemanticFieldIndex>> mergedFields =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(allSchemas -> new ConcurrentHashMap<>()));
+
+    /**
+     * Returns the schemas with the given IDs in the same order, skipping unknown IDs.
+     *
+     * @param allSchemas semantic schemas of the localization
+     * @param schemaIds  IDs of the inherited schemas
+     * @return the inherited schemas
+     */
+    @NotNull
+    List<SemanticSchema> getSchemas(@NotNull Map<Long, SemanticSchema> allSchemas, @NotNull List<String> schemaIds) {
+        ConcurrentMap<List<String>, List<SemanticSchema>> cached = schemas.getUnchecked(allSchemas);
+        List<SemanticSchema> result = cached.get(schemaIds);
+        if (result == null) {
+            ImmutableList.Builder<SemanticSchema> builder = ImmutableList.builder();
+            for (String schemaId : schemaIds) {
+                SemanticSchema schema = allSchemas.get(Long.parseLong(schemaId));
+                if (schema != null) {
+                    builder.add(schema);
+                }
+            }
+            result = builder.build();
+            List<SemanticSchema> existing = cached.putIfAbsent(ImmutableList.copyOf(schemaIds), result);
+            return existing == null ? result : existing;
+        }
+        return result;
+    }
+
+    /**
+     * Returns semantic fields of the schema merged with the fields of inherited schemas. Fields of inherited schemas
+     * take precedence over fields of the schema itself, and of the inherited schemas the first one defining a field wins.
+     *
+     * @param allSchemas semantic schemas of the localization
+     * @param schema     schema of the view model
+     * @param schemaIds  IDs of the inherited schemas
+     * @return merged semantic fields
+     */
+    @NotNull
+    Map<FieldSemantics, SemanticField> getMergedFields(@NotNull Map<Long, SemanticSchema> allSchemas,
+                                                       @NotNull SemanticSchema schema, @NotNull List<String> schemaIds) {
+        ConcurrentMap<Pair<Long, List<String>>, SemanticFieldIndex> cached = mergedFields.getUnchecked(allSchemas);
+        Pair<Long, List<String>> key = Pair.of(schema.getId(), schemaIds);
+        SemanticFieldIndex result = cached.get(key);
+        if (result == null) {
+            Map<FieldSemantics, SemanticField> inheritedFields = new LinkedHashMap<>();
+            for (SemanticSchema inherited : getSchemas(allSchemas, schemaIds)) {
+                inherited.getSemanticFields().forEach(inheritedFields::putIfAbsent);
+            }
+            Map<FieldSemantics, SemanticField> merged = new LinkedHashMap<>(schema.getSemanticFields());
+            merged.putAll(inheritedFields);
+            result = SemanticFieldIndex.of(merged);
+            SemanticFieldIndex existing = cached.putIfAbsent(Pair.of(schema.getId(), ImmutableList.copyOf(schemaIds)), result);
+            return existing == null ? result : existing;
+        }
+        return result;
+    }
+}
@@ -14,6 +14,7 @@ import com.sdl.webapp.common.api.model.entity.AbstractEntityModel;
 import com.sdl.webapp.common.api.model.entity.GenericTopic;
 import com.sdl.webapp.common.api.model.entity.Link;
 import com.sdl.webapp.common.exceptions.DxaException;
+import com.sdl.webapp.common.util.InstantiationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
@@ -322,7 +323,7 @@ public class StronglyTypedTopicBuilder implements EntityModelBuilder {
 
     protected <E extends EntityModel> E buildStronglyTypedTopic(Class<E> modelType, Element htmlElement) throws IllegalAccessException, InstantiationException {
         LOG.debug("Building Strongly Typed Topic Model '" + modelType.getSimpleName() + "'...");
-        E result = modelType.newInstance();
+        E result = InstantiationUtils.newInstance(modelType);
 
         mapBaseProperties((AbstractEntityModel) result, htmlElement);
         mapSemanticProperties((AbstractEntityModel) result, htmlElement);
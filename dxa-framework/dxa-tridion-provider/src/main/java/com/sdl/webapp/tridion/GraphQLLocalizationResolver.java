@@ -1,6 +1,8 @@
 package com.sdl.webapp.tridion;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sdl.dxa.caching.SingleFlightLoader;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
 import com.sdl.web.pca.client.ApiClient;
 import com.sdl.web.pca.client.contentmodel.enums.ContentNamespace;
@@ -11,22 +13,36 @@ import com.sdl.webapp.common.api.localization.LocalizationFactory;
 import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
 import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import com.sdl.webapp.common.api.localization.SiteLocalization;
+import com.sdl.webapp.common.impl.RequestContextPropagation;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriUtils;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.UnsupportedEncodingException;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of {@code LocalizationResolver} that uses the Api Client to determine the localization for a request.
+ * <p>Publication mappings resolved by the Api Client are cached per URL in a {@link PublicationMappingCache}, and localizations
+ * are created once per publication and shared by all the URLs mapped to it. With warm-up enabled, creating a localization
+ * also starts creating the other localizations of its site in background; the request which created the localization
+ * does not wait for them.</p>
  */
 @Component
 @Profile("!cil.providers.active")
@@ -34,10 +50,23 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
 
     private static final Logger LOG = LoggerFactory.getLogger(GraphQLLocalizationResolver.class);
 
-    private final Map<String, Localization> localizations = Collections.synchronizedMap(new HashMap<String, Localization>());
+    private static final int WARM_UP_QUEUE = 100;
+
+    private final Map<String, Localization> localizations = new ConcurrentHashMap<>();
+
+    private final SingleFlightLoader<String, Localization> localizationLoader = new SingleFlightLoader<>();
+
+    private final PublicationMappingCache publicationMappings = new PublicationMappingCache();
 
     private LocalizationFactory localizationFactory;
 
+    @Value("${dxa.localization.warmup:false}")
+    private boolean warmUp;
+
+    private ThreadPoolExecutor warmUpExecutor;
+
+    private final Set<String> warmedUp = ConcurrentHashMap.newKeySet();
+
     private ApiClient apiClient;
 
     public GraphQLLocalizationResolver() {
@@ -49,6 +78,30 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         this.apiClient = apiClientProvider.getClient();
     }
 
+    /**
+     * Starts the worker creating site localizations in background, if warm-up is enabled.
+     * Warm-ups which find the worker busy are queued, those which find the queue full are skipped.
+     */
+    @PostConstruct
+    public void initWarmUp() {
+        if (!warmUp) {
+            return;
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(WARM_UP_QUEUE),
+                new ThreadFactoryBuilder().setNameFormat("dxa-localization-warmup-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.DiscardPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        warmUpExecutor = executor;
+    }
+
+    @PreDestroy
+    public void destroyWarmUp() {
+        if (warmUpExecutor != null) {
+            warmUpExecutor.shutdownNow();
+        }
+    }
+
     /**
      * Gets the publication mapping path. The returned path always starts with a "/" and does not end with a "/", unless
      * the path is the root path "/" itself.
@@ -74,19 +127,37 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
     @SneakyThrows(UnsupportedEncodingException.class)
     public Localization getLocalization(String url) throws LocalizationResolverException {
         LOG.trace("getLocalization: {}", url);
-        if (!localizations.containsKey(url)) {
-            // truncating on first % because of TSI-1281
-            String path = UriUtils.encodePath(url, "UTF-8").split("%")[0];
-            PublicationMappingData data = getPublicationMappingData(path);
+        // truncating on first % because of TSI-1281
+        String path = UriUtils.encodePath(url, "UTF-8").split("%")[0];
+        PublicationMappingData data = publicationMappings.find(path);
+        if (data == null) {
+            data = getPublicationMappingData(path);
 
             if (data == null) {
                 throw new LocalizationResolverException("Publication mapping is not resolved for URL: " + url);
             }
-
-            localizations.put(url, createLocalization(data.id, data.path));
+            publicationMappings.add(path, data);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Publication mapping of {} resolved by the content service, mapping cache: {}", path, publicationMappings.stats());
+            }
         }
 
-        return localizations.get(url);
+        Localization localization = localizations.get(data.id);
+        if (localization == null) {
+            PublicationMappingData mapping = data;
+            localization = localizationLoader.load(mapping.id, () -> {
+                Localization created = localizations.get(mapping.id);
+                if (created == null) {
+                    created = createLocalization(mapping.id, mapping.path);
+                    localizations.put(mapping.id, created);
+                }
+                return created;
+            });
+            if (warmUpExecutor != null && warmedUp.add(mapping.id)) {
+                warmUpLater(localization);
+            }
+        }
+        return localization;
     }
 
     /**
@@ -98,7 +169,10 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
             return false;
         }
         String localizationId = localization.getId();
+        warmedUp.remove(localizationId);
         if (localizations.remove(localizationId) != null) {
+            // publication mappings may have been changed together with the localization
+            publicationMappings.clear();
             LOG.debug("Removed cached localization with id: {}", localizationId);
             return true;
         }
@@ -122,6 +196,40 @@ public class GraphQLLocalizationResolver implements LocalizationResolver {
         }
     }
 
+    /**
+     * Warms up the site localizations of the given localization in background, with the snapshot of the current request.
+     */
+    private void warmUpLater(Localization localization) {
+        Callable<Void> task = RequestContextPropagation.capture().bind(() -> {
+            warmUpSiteLocalizations(localization);
+            return null;
+        });
+        warmUpExecutor.execute(() -> {
+            try {
+                task.call();
+            } catch (Exception e) {
+                LOG.warn("Could not warm up site localizations of localization [{}]", localization.getId(), e);
+            }
+        });
+    }
+
+    private void warmUpSiteLocalizations(Localization localization) {
+        Map<String, String> pathsById = new LinkedHashMap<>();
+        for (SiteLocalization siteLocalization : localization.getSiteLocalizations()) {
+            if (siteLocalization.getId() != null && !localizations.containsKey(siteLocalization.getId())) {
+                pathsById.put(siteLocalization.getId(), getPublicationMappingPath(siteLocalization.getPath()));
+            }
+        }
+        if (pathsById.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Map<String, Localization> created = localizationFactory.createLocalizations(pathsById);
+        created.forEach(localizations::putIfAbsent);
+        LOG.info("Warmed up {} site localizations of localization [{}] in {} ms",
+                created.size(), localization.getId(), System.currentTimeMillis() - start);
+    }
+
     private Localization createLocalization(String id, String path) throws LocalizationResolverException {
         try {
             return localizationFactory.createLocalization(id, path);
@@ -0,0 +1,73 @@
+package com.sdl.webapp.tridion;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.sdl.webapp.tridion.GraphQLLocalizationResolver.PublicationMappingData;
+
+import java.util.Locale;
+
+/**
+ * Cache of the publication mappings which the content service resolved for request URLs.
+ * <p>The content service only resolves the mapping of a single URL, and a longer mapping may exist for any URL
+ * it has not been asked for, so the cache only answers for URLs it has been given. It holds at most
+ * {@link #MAX_SIZE} URLs and evicts the least recently used ones first. Its hit rate is recorded, see
+ * {@link #stats()}.</p>
+ */
+final class PublicationMappingCache {
+
+    static final int MAX_SIZE = 10_000;
+
+    private final Cache<String, PublicationMappingData> mappings = CacheBuilder.newBuilder()
+            .maximumSize(MAX_SIZE)
+            .recordStats()
+            .build();
+
+    /**
+     * Finds the publication mapping of the given URL.
+     *
+     * @param url full URL of the request
+     * @return the mapping of the URL, or {@code null} if it is not cached
+     */
+    PublicationMappingData find(String url) {
+        return mappings.getIfPresent(key(url));
+    }
+
+    /**
+     * Adds the mapping which the content service resolved for the given URL.
+     *
+     * @param url  full URL of the request
+     * @param data mapping of the URL
+     */
+    void add(String url, PublicationMappingData data) {
+        mappings.put(key(url), data);
+    }
+
+    /**
+     * Empties the cache, for instance when publication mappings may have changed.
+     */
+    void clear() {
+        mappings.invalidateAll();
+    }
+
+    /**
+     * Returns the statistics of the cache, e.g. its hit rate.
+     *
+     * @return statistics since the cache has been created
+     */
+    CacheStats stats() {
+        return mappings.stats();
+    }
+
+    /**
+     * Scheme, host and port are case insensitive, the path is not.
+     */
+    private static String key(String url) {
+        int start = url.indexOf("://");
+        int end = url.indexOf('/', start < 0 ? 0 : start + 3);
+        if (end < 0) {
+            return url.toLowerCase(Locale.ROOT) + "/";
+        }
+        return url.substring(0, end).toLowerCase(Locale.ROOT) + url.substring(end);
+    }
+}
@@ -1,6 +1,9 @@
 package com.sdl.webapp.tridion.contextengine;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.sdl.context.api.Aspect;
 import com.sdl.context.api.ContextMap;
 import com.sdl.context.api.exception.ResolverException;
@@ -16,12 +19,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
@@ -32,6 +39,12 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     @Value("${dxa.context.service.publication.id:false}")
     private boolean isPublicationIdExpected;
 
+    @Value("${dxa.context.claims.cache.size:10000}")
+    private long claimsCacheSize = 10000;
+
+    @Value("${dxa.context.claims.cache.ttl-seconds:300}")
+    private long claimsCacheTtlSeconds = 300;
+
     //todo dxa2 replace with bean initialization based on negated Spring profile
     private ODataContextEngine oDataContextEngine;
 
@@ -41,75 +54,143 @@ public class ContextServiceClaimsProvider implements ContextClaimsProvider {
     @Autowired
     private HttpServletRequest request;
 
-    private static Map<String, Object> getClaimsMap(ContextMap<? extends Aspect> contextMap, String aspectName) {
-
-        log.trace("#getClaimsMap(ContextMap<? extends Aspect> {}, String {})", contextMap, aspectName);
-
-        if (contextMap == null) {
-            log.warn("contextMap is null for aspect {}, returning empty claims map", aspectName);
-            return Collections.emptyMap();
-        }
-
-        if (Strings.isNullOrEmpty(aspectName)) {
-            Set<String> keySet = contextMap.keySet();
-            Map<String, Object> result = new HashMap<>(keySet.size());
-            for (String key : keySet) {
-                if (!Strings.isNullOrEmpty(key)) {
-                    result.putAll(getClaimsMap(contextMap, key));
-                }
-            }
-
-            return result;
-        } else {
-            return getClaimsForAspect(contextMap, aspectName);
-        }
+    /**
+     * Claims resolved by the Context Service, keyed by the evidence they were resolved with: the user-agent,
+     * the context cookie and the publication id if it is expected.
+     */
+    private Cache<List<Object>, ResolvedClaims> claimsCache = buildClaimsCache(claimsCacheSize, claimsCacheTtlSeconds);
+
+    private static Cache<List<Object>, ResolvedClaims> buildClaimsCache(long size, long ttlSeconds) {
+        return CacheBuilder.newBuilder()
+                .maximumSize(Math.max(size, 0))
+                .expireAfterWrite(Math.max(ttlSeconds, 0), TimeUnit.SECONDS)
+                .recordStats()
+                .build();
     }
 
-    private static Map<String, Object> getClaimsForAspect(ContextMap<? extends Aspect> contextMap, String aspectName) {
-        Aspect aspect = contextMap.get(aspectName);
-        Map<String, Object> result = new HashMap<>(aspect.size());
-        for (String key : aspect.keySet()) {
-            result.put(String.format("%s.%s", aspectName, key), aspect.get(key));
-        }
-        return result;
+    @PostConstruct
+    public void initClaimsCache() {
+        claimsCache = buildClaimsCache(claimsCacheSize, claimsCacheTtlSeconds);
     }
 
     @Override
     public Map<String, Object> getContextClaims(String aspectName) throws DxaException {
-        EvidenceBuilder evidenceBuilder = new EvidenceBuilder()
-                .with("user-agent", request.getHeader("user-agent"));
-
+        String userAgent = request.getHeader("user-agent");
+        String contextCookie = null;
         if (request.getCookies() != null) {
             for (Cookie cookie : request.getCookies()) {
                 if (CONTEXT_COOKIE_NAME.equals(cookie.getName())) {
-                    evidenceBuilder.with("cookie", CONTEXT_COOKIE_NAME + '=' + cookie.getValue());
+                    contextCookie = CONTEXT_COOKIE_NAME + '=' + cookie.getValue();
                 }
             }
         }
 
+        Integer publicationId = null;
         if (isPublicationIdExpected) {
             Localization localization = webRequestContext.getLocalization();
-            evidenceBuilder.withPublicationId(Integer.valueOf(localization.getId()));
+            publicationId = Integer.valueOf(localization.getId());
         }
 
-        ContextMap<? extends Aspect> contextMap;
+        ResolvedClaims claims = getResolvedClaims(userAgent, contextCookie, publicationId);
+        return Strings.isNullOrEmpty(aspectName) ? claims.all : claims.forAspect(aspectName);
+    }
+
+    private ResolvedClaims getResolvedClaims(String userAgent, String contextCookie, Integer publicationId) throws DxaException {
         try {
-            Evidence evidence = evidenceBuilder.build();
-            if (oDataContextEngine == null) {
-                oDataContextEngine = new ODataContextEngine();
-            }
-            contextMap = oDataContextEngine.resolve(evidence);
-            log.trace("Current data context engine impl is {}", oDataContextEngine.getClass());
-            log.debug("Requested context map for aspect {} with evidence {}, and got {}", aspectName, evidence, contextMap);
-        } catch (ResolverException e) {
-            throw new DxaException("An error occurred while resolving evidence using the Context Service.", e);
+            return claimsCache.get(Arrays.asList(userAgent, contextCookie, publicationId),
+                    () -> resolveClaims(userAgent, contextCookie, publicationId));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new DxaException("An error occurred while resolving evidence using the Context Service.", e.getCause());
+        }
+    }
+
+    private ResolvedClaims resolveClaims(String userAgent, String contextCookie, Integer publicationId) throws ResolverException {
+        EvidenceBuilder evidenceBuilder = new EvidenceBuilder().with("user-agent", userAgent);
+        if (contextCookie != null) {
+            evidenceBuilder.with("cookie", contextCookie);
+        }
+        if (publicationId != null) {
+            evidenceBuilder.withPublicationId(publicationId);
+        }
+
+        Evidence evidence = evidenceBuilder.build();
+        if (oDataContextEngine == null) {
+            oDataContextEngine = new ODataContextEngine();
         }
+        ContextMap<? extends Aspect> contextMap = oDataContextEngine.resolve(evidence);
+        log.trace("Current data context engine impl is {}", oDataContextEngine.getClass());
+        log.debug("Requested context map with evidence {}, and got {}", evidence, contextMap);
 
-        return getClaimsMap(contextMap, aspectName);
+        if (contextMap == null) {
+            log.warn("contextMap is null for evidence {}, returning empty claims map", evidence);
+            return ResolvedClaims.EMPTY;
+        }
+        return new ResolvedClaims(contextMap);
     }
 
     @Override
     public String getDeviceFamily() {
         return null;
     }
+
+    public void clearClaimsCache() {
+        claimsCache.invalidateAll();
+    }
+
+    public long getClaimsCacheHits() {
+        return claimsCache.stats().hitCount();
+    }
+
+    public long getClaimsCacheMisses() {
+        return claimsCache.stats().missCount();
+    }
+
+    public double getClaimsCacheHitRatio() {
+        return claimsCache.stats().hitRate();
+    }
+
+    public long getClaimsCacheSize() {
+        return claimsCache.size();
+    }
+
+    /**
+     * Claims of a resolved context map, both per aspect and all together, with their {@code aspect.property} names
+     * built and interned once.
+     */
+    private static final class ResolvedClaims {
+
+        private static final ResolvedClaims EMPTY = new ResolvedClaims(Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<String, Map<String, Object>> byAspect;
+
+        private final Map<String, Object> all;
+
+        private ResolvedClaims(Map<String, Map<String, Object>> byAspect, Map<String, Object> all) {
+            this.byAspect = byAspect;
+            this.all = all;
+        }
+
+        private ResolvedClaims(ContextMap<? extends Aspect> contextMap) {
+            Map<String, Map<String, Object>> aspects = new HashMap<>(contextMap.size());
+            Map<String, Object> claims = new HashMap<>();
+            for (String aspectName : contextMap.keySet()) {
+                if (Strings.isNullOrEmpty(aspectName)) {
+                    continue;
+                }
+                Aspect aspect = contextMap.get(aspectName);
+                Map<String, Object> aspectClaims = new HashMap<>(aspect.size());
+                for (String key : aspect.keySet()) {
+                    aspectClaims.put((aspectName + '.' + key).intern(), aspect.get(key));
+                }
+                claims.putAll(aspectClaims);
+                aspects.put(aspectName, Collections.unmodifiableMap(aspectClaims));
+            }
+            this.byAspect = aspects;
+            this.all = Collections.unmodifiableMap(claims);
+        }
+
+        private Map<String, Object> forAspect(String aspectName) {
+            return byAspect.getOrDefault(aspectName, Collections.emptyMap());
+        }
+    }
 }
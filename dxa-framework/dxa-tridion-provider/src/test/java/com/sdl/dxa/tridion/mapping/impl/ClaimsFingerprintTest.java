@@ -0,0 +1,120 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.dxa.caching.ModelCacheKey;
+import com.tridion.ambientdata.claimstore.ClaimStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ClaimsFingerprintTest {
+
+    private static final URI CONDITIONS = URI.create("taf:ish:userconditions");
+
+    @Before
+    public void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void shouldReturnNoClaimsIfThereAreNoConditions() {
+        //given
+        ClaimStore claimStore = claimStore(ImmutableMap.of(URI.create("taf:session:id"), "42"));
+
+        //when
+        String fingerprint = ClaimsFingerprint.of(claimStore);
+
+        //then
+        assertEquals(ModelCacheKey.NO_CLAIMS, fingerprint);
+        assertEquals(ModelCacheKey.NO_CLAIMS, ClaimsFingerprint.of(null));
+    }
+
+    @Test
+    public void shouldIgnoreOrderAndMissingValuesOfConditions() {
+        //given
+        Map<String, Object> conditions = new LinkedHashMap<>();
+        conditions.put("b", "2");
+        conditions.put("a", "1");
+        conditions.put("c", null);
+        Map<String, Object> sameConditions = new HashMap<>();
+        sameConditions.put("a", "1");
+        sameConditions.put("b", "2");
+
+        //when
+        String fingerprint = ClaimsFingerprint.of(claimStore(ImmutableMap.of(CONDITIONS, conditions)));
+        String sameFingerprint = ClaimsFingerprint.of(claimStore(ImmutableMap.of(CONDITIONS, sameConditions)));
+
+        //then
+        assertEquals(fingerprint, sameFingerprint);
+    }
+
+    @Test
+    public void shouldComputeFingerprintAgainIfConditionsAreReplaced() {
+        //given
+        Map<URI, Object> claims = new HashMap<>();
+        claims.put(CONDITIONS, ImmutableMap.of("a", "1"));
+        ClaimStore claimStore = claimStore(claims);
+        String fingerprint = ClaimsFingerprint.of(claimStore);
+
+        //when
+        claims.put(CONDITIONS, ImmutableMap.of("a", "2"));
+
+        //then
+        assertNotEquals(fingerprint, ClaimsFingerprint.of(claimStore));
+    }
+
+    @Test
+    public void shouldComputeFingerprintAgainIfConditionsAreChangedInPlace() {
+        //given
+        Map<String, Object> conditions = new HashMap<>();
+        conditions.put("a", "1");
+        ClaimStore claimStore = claimStore(ImmutableMap.of(CONDITIONS, conditions));
+        String fingerprint = ClaimsFingerprint.of(claimStore);
+
+        //when
+        conditions.put("a", "2");
+
+        //then
+        assertNotEquals(fingerprint, ClaimsFingerprint.of(claimStore));
+    }
+
+    @Test
+    public void shouldReuseFingerprintIfConditionsAreEqual() {
+        //given
+        Map<URI, Object> claims = new HashMap<>();
+        claims.put(CONDITIONS, ImmutableMap.of("a", "1"));
+        ClaimStore claimStore = claimStore(claims);
+        String fingerprint = ClaimsFingerprint.of(claimStore);
+
+        //when
+        claims.put(CONDITIONS, new HashMap<>(ImmutableMap.of("a", "1")));
+
+        //then
+        assertSame(fingerprint, ClaimsFingerprint.of(claimStore));
+    }
+
+    private static ClaimStore claimStore(Map<URI, Object> claims) {
+        ClaimStore claimStore = mock(ClaimStore.class);
+        when(claimStore.getClaimValues()).thenReturn(claims);
+        return claimStore;
+    }
+}
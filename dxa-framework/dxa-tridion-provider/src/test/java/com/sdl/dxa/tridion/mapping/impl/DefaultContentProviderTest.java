@@ -5,6 +5,7 @@ import com.sdl.dxa.common.dto.StaticContentRequestDto;
 import com.sdl.dxa.tridion.content.CilStaticContentResolver;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.modelservice.DefaultModelServiceProvider;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.ConditionalEntityEvaluator;
 import com.sdl.webapp.common.api.content.ContentProviderException;
@@ -61,6 +62,7 @@ public class DefaultContentProviderTest {
         when(cacheManager.getCache(anyString())).thenReturn(cache);
         when(localization.getId()).thenReturn("42");
         when(webRequestContext.getLocalization()).thenReturn(localization);
+        when(webRequestContext.getSnapshot()).thenReturn(RequestSnapshot.builder().build());
         contentProvider = new DefaultContentProvider(webRequestContext, null, null, modelBuilderPipeline, defaultModelService, cacheManager);
     }
 
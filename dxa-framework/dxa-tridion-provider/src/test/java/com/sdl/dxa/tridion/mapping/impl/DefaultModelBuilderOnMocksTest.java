@@ -5,6 +5,8 @@ import com.sdl.dxa.api.datamodel.model.EntityModelData;
 import com.sdl.dxa.api.datamodel.model.MvcModelData;
 import com.sdl.dxa.api.datamodel.model.PageModelData;
 import com.sdl.dxa.api.datamodel.model.RegionModelData;
+import com.sdl.webapp.common.api.RequestSnapshot;
+import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.mapping.semantic.SemanticMappingException;
 import com.sdl.webapp.common.api.model.EntityModel;
 import com.sdl.webapp.common.api.model.MvcData;
@@ -18,21 +20,31 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -58,6 +70,8 @@ public class DefaultModelBuilderOnMocksTest {
     private RegionModel regionModel2;
     @Mock
     private RegionModel regionModel3;
+    @Mock
+    private WebRequestContext webRequestContext;
 
     @Spy
     @InjectMocks
@@ -194,6 +208,82 @@ public class DefaultModelBuilderOnMocksTest {
         verify(regionModel1).addEntity(entityModel);
     }
 
+    @Test
+    public void addEntitiesToRegionModelsInParallelKeepsOrder() {
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildEnabled", true);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildThreads", 3);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildQueue", 10);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildMinEntities", 2);
+        modelBuilder.initParallelBuild();
+        try {
+            RegionModelData regionModelData = mock(RegionModelData.class);
+            List<EntityModelData> entities = new ArrayList<>();
+            List<EntityModel> entityModels = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                EntityModelData entityModelData = mock(EntityModelData.class);
+                EntityModel entityModel = mock(EntityModel.class);
+                when(entityModel.getMvcData()).thenReturn(mvcData);
+                doReturn(entityModel).when(modelBuilder).createEntityModel(entityModelData);
+                entities.add(entityModelData);
+                entityModels.add(entityModel);
+            }
+            when(regionModelData.getEntities()).thenReturn(entities);
+            when(regionModelData.getName()).thenReturn("regionModelData name");
+
+            modelBuilder.addEntitiesToRegionModels(regionModelData, regionModel1);
+
+            InOrder inOrder = inOrder(regionModel1);
+            for (EntityModel entityModel : entityModels) {
+                verify(entityModel).setMvcData(any(MvcData.class));
+                inOrder.verify(regionModel1).addEntity(entityModel);
+            }
+        } finally {
+            modelBuilder.destroyParallelBuild();
+        }
+    }
+
+    @Test
+    public void addEntitiesToRegionModelsInParallelWithoutRequestScope() {
+        //given
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildEnabled", true);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildThreads", 2);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildQueue", 10);
+        ReflectionTestUtils.setField(modelBuilder, "parallelBuildMinEntities", 2);
+        modelBuilder.initParallelBuild();
+        RequestAttributes requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            RequestSnapshot snapshot = RequestSnapshot.builder().build();
+            when(webRequestContext.getSnapshot()).thenReturn(snapshot);
+            RegionModelData regionModelData = mock(RegionModelData.class);
+            List<EntityModelData> entities = Lists.newArrayList(mock(EntityModelData.class), mock(EntityModelData.class));
+            when(regionModelData.getEntities()).thenReturn(entities);
+            List<RequestAttributes> workerAttributes = new CopyOnWriteArrayList<>();
+            for (EntityModelData entityModelData : entities) {
+                EntityModel entityModel = mock(EntityModel.class);
+                when(entityModel.getMvcData()).thenReturn(mvcData);
+                doAnswer(invocation -> {
+                    workerAttributes.add(RequestContextHolder.getRequestAttributes());
+                    return entityModel;
+                }).when(modelBuilder).createEntityModel(entityModelData);
+            }
+
+            //when
+            modelBuilder.addEntitiesToRegionModels(regionModelData, regionModel1);
+
+            //then
+            assertEquals(2, workerAttributes.size());
+            for (RequestAttributes attributes : workerAttributes) {
+                assertNotSame(requestAttributes, attributes);
+                assertSame(snapshot, attributes.getAttribute(RequestSnapshot.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+            }
+            assertNotSame(workerAttributes.get(0), workerAttributes.get(1));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            modelBuilder.destroyParallelBuild();
+        }
+    }
+
     @NotNull
     private List<RegionModelData> prepareRegions() throws SemanticMappingException {
         RegionModelData regionModelData1 = mock(RegionModelData.class);
@@ -0,0 +1,88 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.dxa.api.datamodel.model.EntityModelData;
+import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
+import com.sdl.dxa.tridion.mapping.converter.GenericSemanticModelDataConverter;
+import com.sdl.dxa.tridion.mapping.impl.DefaultSemanticFieldDataProvider.MappingContext;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.util.ApplicationContextHolder;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DefaultSemanticFieldDataProviderTest {
+
+    private final ApplicationContext previousContext = ApplicationContextHolder.getContext();
+
+    @After
+    public void restoreContext() {
+        new ApplicationContextHolder().setApplicationContext(previousContext);
+    }
+
+    @Test
+    public void shouldLookUpBeansOnce_ForAllProvidersOfBuild() {
+        //given
+        ApplicationContext context = givenApplicationContext();
+        SemanticField semanticField = new SemanticField("items", "/Article/items", true, Collections.emptyMap());
+
+        //when
+        try (MappingContext.Build build = MappingContext.startBuild()) {
+            DefaultSemanticFieldDataProvider root = DefaultSemanticFieldDataProvider.getFor(new EntityModelData(), null);
+            assertNotNull(root);
+            assertNotNull(root.embedded(new EntityModelData()));
+            assertNotNull(root.iteration(new EntityModelData(), semanticField, 0));
+            assertNotNull(root.forModel(new EntityModelData()));
+            try (MappingContext.Build nested = MappingContext.startBuild()) {
+                assertNotNull(DefaultSemanticFieldDataProvider.getFor(new EntityModelData(), null));
+            }
+            assertNotNull(DefaultSemanticFieldDataProvider.getFor(new EntityModelData(), null));
+        }
+
+        //then
+        verify(context, times(1)).getBean(GenericSemanticModelDataConverter.class);
+        verify(context, times(1)).getBean(ModelBuilderPipeline.class);
+    }
+
+    @Test
+    public void shouldNotShareContext_BetweenBuilds() {
+        //given
+        ApplicationContext first = givenApplicationContext();
+        MappingContext firstBuild;
+        try (MappingContext.Build build = MappingContext.startBuild()) {
+            firstBuild = MappingContext.current();
+            assertSame(firstBuild, MappingContext.current());
+        }
+        ApplicationContext second = givenApplicationContext();
+
+        //when
+        MappingContext secondBuild;
+        try (MappingContext.Build build = MappingContext.startBuild()) {
+            secondBuild = MappingContext.current();
+            DefaultSemanticFieldDataProvider.getFor(new EntityModelData(), null);
+        }
+
+        //then
+        assertNotSame(firstBuild, secondBuild);
+        assertNotSame("no build is running", MappingContext.current(), MappingContext.current());
+        verify(first, times(0)).getBean(GenericSemanticModelDataConverter.class);
+        verify(second, times(1)).getBean(GenericSemanticModelDataConverter.class);
+    }
+
+    private ApplicationContext givenApplicationContext() {
+        ApplicationContext context = mock(ApplicationContext.class);
+        when(context.getBean(GenericSemanticModelDataConverter.class)).thenReturn(mock(GenericSemanticModelDataConverter.class));
+        when(context.getBean(ModelBuilderPipeline.class)).thenReturn(mock(ModelBuilderPipeline.class));
+        new ApplicationContextHolder().setApplicationContext(context);
+        return context;
+    }
+}
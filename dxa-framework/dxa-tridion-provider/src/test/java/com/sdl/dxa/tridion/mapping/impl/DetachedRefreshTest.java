@@ -0,0 +1,77 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.sdl.webapp.common.api.RequestSnapshot;
+import com.sdl.webapp.common.api.localization.Localization;
+import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import com.sdl.webapp.common.impl.WebRequestContextImpl;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+public class DetachedRefreshTest {
+
+    @Test
+    public void shouldRefreshWithoutServletRequest() throws Exception {
+        //given
+        Localization localization = mock(Localization.class);
+        RequestSnapshot snapshot = RequestSnapshot.builder()
+                .baseUrl("http://localhost").contextPath("").requestPath("/page")
+                .localization(localization)
+                .build();
+        // stands for the request-scoped proxy of the servlet request, which has no target outside of a request
+        HttpServletRequest servletRequest = mock(HttpServletRequest.class, invocation -> {
+            throw new IllegalStateException("No thread-bound request found");
+        });
+        LocalizationResolver localizationResolver = mock(LocalizationResolver.class);
+        WebRequestContextImpl webRequestContext = new WebRequestContextImpl();
+        ReflectionTestUtils.setField(webRequestContext, "servletRequest", servletRequest);
+        ReflectionTestUtils.setField(webRequestContext, "localizationResolver", localizationResolver);
+
+        DetachedRefresh refresh = DetachedRefresh.of("key",
+                () -> webRequestContext.getFullUrl() + " " + webRequestContext.getLocalization(), snapshot);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        //when
+        Object refreshed;
+        try {
+            refreshed = executor.submit(() -> {
+                assertNull(RequestContextHolder.getRequestAttributes());
+                try {
+                    return refresh.call();
+                } finally {
+                    assertNull(RequestContextHolder.getRequestAttributes());
+                }
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        //then
+        assertEquals("http://localhost/page " + localization, refreshed);
+        assertSame(localization, webRequestContext.getSnapshot().getLocalization());
+        verifyZeroInteractions(servletRequest);
+        verify(localizationResolver, never()).getLocalization(anyString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotDetachWithoutLocalization() {
+        //when
+        DetachedRefresh.of("key", () -> null, RequestSnapshot.builder().build());
+
+        //then
+        // exception
+    }
+}
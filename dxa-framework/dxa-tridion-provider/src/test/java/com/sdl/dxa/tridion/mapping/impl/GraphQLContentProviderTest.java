@@ -5,6 +5,7 @@ import com.sdl.dxa.tridion.content.StaticContentResolver;
 import com.sdl.dxa.tridion.graphql.GraphQLProvider;
 import com.sdl.dxa.tridion.mapping.ModelBuilderPipeline;
 import com.sdl.dxa.tridion.pcaclient.ApiClientProvider;
+import com.sdl.webapp.common.api.RequestSnapshot;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.content.StaticContentItem;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -56,6 +57,7 @@ public class GraphQLContentProviderTest {
     @Before
     public void setup() {
         when(cacheManager.getCache(anyString())).thenReturn(cache);
+        when(webRequestContext.getSnapshot()).thenReturn(RequestSnapshot.builder().build());
         contentProvider = spy(new GraphQLContentProvider(
                 webRequestContext,
                 staticContentResolver,
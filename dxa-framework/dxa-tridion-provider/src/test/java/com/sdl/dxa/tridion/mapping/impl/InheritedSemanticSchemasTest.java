@@ -0,0 +1,83 @@
+package com.sdl.dxa.tridion.mapping.impl;
+
+import com.google.common.collect.ImmutableMap;
+import com.sdl.webapp.common.api.mapping.semantic.config.FieldSemantics;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticField;
+import com.sdl.webapp.common.api.mapping.semantic.config.SemanticSchema;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.sdl.webapp.common.api.mapping.semantic.config.SemanticVocabulary.SDL_CORE_VOCABULARY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class InheritedSemanticSchemasTest {
+
+    private static final FieldSemantics TITLE = new FieldSemantics(SDL_CORE_VOCABULARY, "Article", "title");
+
+    private static final FieldSemantics BODY = new FieldSemantics(SDL_CORE_VOCABULARY, "Article", "body");
+
+    private final InheritedSemanticSchemas inheritedSemanticSchemas = new InheritedSemanticSchemas();
+
+    @Test
+    public void shouldReturnKnownSchemasInOrder() {
+        //given
+        SemanticSchema first = schema(1, ImmutableMap.of());
+        SemanticSchema second = schema(2, ImmutableMap.of());
+        Map<Long, SemanticSchema> allSchemas = ImmutableMap.of(1L, first, 2L, second);
+
+        //when
+        List<SemanticSchema> schemas = inheritedSemanticSchemas.getSchemas(allSchemas, Arrays.asList("2", "3", "1"));
+
+        //then
+        assertEquals(Arrays.asList(second, first), schemas);
+        assertSame(schemas, inheritedSemanticSchemas.getSchemas(allSchemas, Arrays.asList("2", "3", "1")));
+    }
+
+    @Test
+    public void shouldMergeFieldsOncePerSchemas() {
+        //given
+        SemanticField ownTitle = field("ownTitle");
+        SemanticField inheritedTitle = field("inheritedTitle");
+        SemanticField body = field("body");
+        SemanticSchema schema = schema(1, ImmutableMap.of(TITLE, ownTitle));
+        Map<Long, SemanticSchema> allSchemas = ImmutableMap.of(1L, schema,
+                2L, schema(2, ImmutableMap.of(TITLE, inheritedTitle, BODY, body)));
+
+        //when
+        Map<FieldSemantics, SemanticField> merged = inheritedSemanticSchemas.getMergedFields(allSchemas, schema, Collections.singletonList("2"));
+
+        //then
+        assertEquals(ImmutableMap.of(TITLE, inheritedTitle, BODY, body), merged);
+        assertSame(merged, inheritedSemanticSchemas.getMergedFields(allSchemas, schema, Collections.singletonList("2")));
+    }
+
+    @Test
+    public void shouldMergeAgainWhenSchemasAreReloaded() {
+        //given
+        SemanticSchema schema = schema(1, ImmutableMap.of(TITLE, field("title")));
+        Map<FieldSemantics, SemanticField> merged = inheritedSemanticSchemas.getMergedFields(
+                ImmutableMap.of(1L, schema, 2L, schema(2, ImmutableMap.of())), schema, Collections.singletonList("2"));
+
+        //when
+        Map<FieldSemantics, SemanticField> reloaded = inheritedSemanticSchemas.getMergedFields(
+                ImmutableMap.of(1L, schema, 2L, schema(2, ImmutableMap.of(BODY, field("body")))), schema, Collections.singletonList("2"));
+
+        //then
+        assertNotSame(merged, reloaded);
+        assertEquals(2, reloaded.size());
+    }
+
+    private static SemanticSchema schema(long id, Map<FieldSemantics, SemanticField> fields) {
+        return new SemanticSchema(id, "Article", Collections.emptySet(), fields);
+    }
+
+    private static SemanticField field(String name) {
+        return new SemanticField(name, "/Article/" + name, false, Collections.emptyMap());
+    }
+}
@@ -8,6 +8,7 @@ import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationFactory;
 import com.sdl.webapp.common.api.localization.LocalizationFactoryException;
 import com.sdl.webapp.common.api.localization.LocalizationResolverException;
+import com.sdl.webapp.common.api.localization.SiteLocalization;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -15,8 +16,20 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -58,4 +71,83 @@ public class GraphQLLocalizationResolverTest {
 
         Assert.assertNotNull(pcaLocalizationResolver.getLocalization(testUrl));
     }
+
+    @Test
+    public void shouldCreateLocalizationOncePerPublication() throws Exception {
+        //given
+        when(localizationFactory.createLocalization("5", "/de")).thenReturn(localization);
+        when(publicationMapping.getPublicationId()).thenReturn(5);
+        when(publicationMapping.getPath()).thenReturn("/de/");
+        when(publicContentApi.getPublicationMapping(eq(ContentNamespace.Sites), anyString())).thenReturn(publicationMapping);
+
+        //when
+        Localization first = pcaLocalizationResolver.getLocalization("http://localhost:8882/de/about");
+        Localization second = pcaLocalizationResolver.getLocalization("http://localhost:8882/de/contact");
+        Localization third = pcaLocalizationResolver.getLocalization("http://localhost:8882/de/about");
+
+        //then
+        assertSame(localization, first);
+        assertSame(localization, second);
+        assertSame(localization, third);
+        verify(localizationFactory, times(1)).createLocalization("5", "/de");
+        verify(publicContentApi, times(2)).getPublicationMapping(eq(ContentNamespace.Sites), anyString());
+    }
+
+    @Test
+    public void shouldCreateLocalizationAgainWhenRefreshed() throws Exception {
+        //given
+        String testUrl = "http://localhost:8882/";
+        when(localizationFactory.createLocalization("5", "/")).thenReturn(localization);
+        when(localization.getId()).thenReturn("5");
+        when(publicationMapping.getPublicationId()).thenReturn(5);
+        when(publicationMapping.getPath()).thenReturn("/");
+        when(publicContentApi.getPublicationMapping(ContentNamespace.Sites, testUrl)).thenReturn(publicationMapping);
+        pcaLocalizationResolver.getLocalization(testUrl);
+
+        //when
+        boolean refreshed = pcaLocalizationResolver.refreshLocalization(localization);
+        pcaLocalizationResolver.getLocalization(testUrl);
+
+        //then
+        assertTrue(refreshed);
+        verify(localizationFactory, times(2)).createLocalization("5", "/");
+    }
+
+    @Test
+    public void shouldWarmUpSiteLocalizationsInBackground() throws Exception {
+        //given
+        String testUrl = "http://localhost:8882/";
+        when(localizationFactory.createLocalization("5", "/")).thenReturn(localization);
+        when(localization.getId()).thenReturn("5");
+        SiteLocalization siteLocalization = mock(SiteLocalization.class);
+        when(siteLocalization.getId()).thenReturn("6");
+        when(siteLocalization.getPath()).thenReturn("/en/");
+        when(localization.getSiteLocalizations()).thenReturn(Collections.singletonList(siteLocalization));
+        when(publicationMapping.getPublicationId()).thenReturn(5);
+        when(publicationMapping.getPath()).thenReturn("/");
+        when(publicContentApi.getPublicationMapping(ContentNamespace.Sites, testUrl)).thenReturn(publicationMapping);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch warmedUp = new CountDownLatch(1);
+        when(localizationFactory.createLocalizations(Collections.singletonMap("6", "/en"))).thenAnswer(invocation -> {
+            release.await();
+            warmedUp.countDown();
+            return Collections.emptyMap();
+        });
+        ReflectionTestUtils.setField(pcaLocalizationResolver, "warmUp", true);
+        pcaLocalizationResolver.initWarmUp();
+
+        try {
+            //when
+            Localization result = pcaLocalizationResolver.getLocalization(testUrl);
+
+            //then
+            assertSame(localization, result);
+            release.countDown();
+            assertTrue(warmedUp.await(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            pcaLocalizationResolver.destroyWarmUp();
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.sdl.webapp.tridion;
+
+import com.sdl.webapp.tridion.GraphQLLocalizationResolver.PublicationMappingData;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PublicationMappingCacheTest {
+
+    private final PublicationMappingCache cache = new PublicationMappingCache();
+
+    @Test
+    public void shouldFindMappingOfKnownUrl() {
+        //given
+        PublicationMappingData mapping = new PublicationMappingData("5", "/de");
+        cache.add("http://localhost:8882/de/products/phones", mapping);
+
+        //when, then
+        assertSame(mapping, cache.find("http://localhost:8882/de/products/phones"));
+        assertSame(mapping, cache.find("http://LOCALHOST:8882/de/products/phones"));
+    }
+
+    @Test
+    public void shouldNotGuessMappingOfUnknownUrls() {
+        //given
+        cache.add("http://localhost:8882/de/products/phones", new PublicationMappingData("5", "/de"));
+
+        //when, then
+        assertNull("a longer mapping may exist for an unknown path", cache.find("http://localhost:8882/de/about"));
+        assertNull("paths are case sensitive", cache.find("http://localhost:8882/DE/products/phones"));
+        assertNull("other host", cache.find("http://example.com/de/products/phones"));
+    }
+
+    @Test
+    public void shouldTreatOriginAsRoot() {
+        //given
+        PublicationMappingData root = new PublicationMappingData("1", "/");
+        cache.add("http://localhost:8882", root);
+
+        //when, then
+        assertSame(root, cache.find("http://localhost:8882/"));
+    }
+
+    @Test
+    public void shouldRecordHitRate() {
+        //given
+        cache.add("http://localhost:8882/", new PublicationMappingData("1", "/"));
+
+        //when
+        cache.find("http://localhost:8882/");
+        cache.find("http://localhost:8882/");
+        cache.find("http://localhost:8882/about");
+
+        //then
+        assertEquals(2, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    public void shouldForgetMappingsWhenCleared() {
+        //given
+        cache.add("http://localhost:8882/", new PublicationMappingData("1", "/"));
+
+        //when
+        cache.clear();
+
+        //then
+        assertNull(cache.find("http://localhost:8882/"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.sdl.webapp.tridion.contextengine;
 
 import com.sdl.context.api.exception.ResolverException;
+import com.sdl.context.api.resolution.Evidence;
 import com.sdl.context.odata.client.api.ODataContextEngine;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
@@ -20,9 +21,12 @@ import javax.servlet.http.HttpServletRequest;
 import java.util.Map;
 
 import static org.apache.commons.collections4.MapUtils.isEmpty;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,4 +95,47 @@ public class ContextServiceClaimsProviderTest {
         //then
         verify(oDataContextEngine).resolve(argThat(argument -> argument.get("publication-id") == null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldResolveClaimsOnce_ForSameEvidence() throws DxaException, ResolverException {
+        //given
+        when(httpServletRequest.getHeader("user-agent")).thenReturn("Mozilla/5.0");
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        verify(oDataContextEngine, times(1)).resolve(any(Evidence.class));
+        assertEquals(1, contextServiceClaimsProvider.getClaimsCacheHits());
+        assertEquals(1, contextServiceClaimsProvider.getClaimsCacheMisses());
+    }
+
+    @Test
+    public void shouldResolveClaimsAgain_ForOtherUserAgent() throws DxaException, ResolverException {
+        //given
+        when(httpServletRequest.getHeader("user-agent")).thenReturn("Mozilla/5.0", "curl/7.64");
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        verify(oDataContextEngine, times(2)).resolve(any(Evidence.class));
+        assertEquals(2, contextServiceClaimsProvider.getClaimsCacheSize());
+    }
+
+    @Test
+    public void shouldResolveClaimsAgain_ForOtherPublication() throws DxaException, ResolverException {
+        //given
+        ReflectionTestUtils.setField(contextServiceClaimsProvider, "isPublicationIdExpected", true);
+        when(localization.getId()).thenReturn("1", "2");
+
+        //when
+        contextServiceClaimsProvider.getContextClaims(null);
+        contextServiceClaimsProvider.getContextClaims(null);
+
+        //then
+        verify(oDataContextEngine, times(2)).resolve(any(Evidence.class));
+    }
+}
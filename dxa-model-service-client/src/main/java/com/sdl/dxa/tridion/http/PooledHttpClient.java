@@ -0,0 +1,111 @@
+package com.sdl.dxa.tridion.http;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client sending requests over a pool of kept-alive connections, shared by the clients of the content services.
+ * <p>Connections idle for longer than the idle timeout, or kept alive for longer than the server allows, are evicted
+ * in background. The default settings are the {@code DEFAULT_*} constants, which are also used as defaults of the
+ * properties the settings are configured with.</p>
+ */
+public final class PooledHttpClient implements Closeable {
+
+    public static final int DEFAULT_MAX_PER_ROUTE = 20;
+
+    public static final int DEFAULT_MAX_TOTAL = 100;
+
+    public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+
+    public static final int DEFAULT_READ_TIMEOUT = 30000;
+
+    public static final long DEFAULT_KEEP_ALIVE = 30000;
+
+    public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Creates a client with a pool of connections.
+     *
+     * @param maxPerRoute    maximum number of connections to the same host
+     * @param maxTotal       maximum number of connections
+     * @param connectTimeout timeout (ms) for connecting, also used as timeout for waiting for a connection from the pool
+     * @param readTimeout    timeout (ms) for waiting for data
+     * @param keepAlive      maximum time (ms) a connection is kept alive, if the server doesn't ask for a shorter one
+     * @param idleTimeout    time (ms) after which an idle connection is closed
+     */
+    public PooledHttpClient(int maxPerRoute, int maxTotal, int connectTimeout, int readTimeout,
+                            long keepAlive, long idleTimeout) {
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxTotal(maxTotal);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeout)
+                        .setConnectionRequestTimeout(connectTimeout)
+                        .setSocketTimeout(readTimeout)
+                        .build())
+                .setKeepAliveStrategy(keepAliveStrategy(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * Creates a client with the default settings.
+     *
+     * @return new client
+     */
+    public static PooledHttpClient withDefaults() {
+        return new PooledHttpClient(DEFAULT_MAX_PER_ROUTE, DEFAULT_MAX_TOTAL, DEFAULT_CONNECT_TIMEOUT,
+                DEFAULT_READ_TIMEOUT, DEFAULT_KEEP_ALIVE, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAlive) {
+        return (response, context) -> {
+            long requested = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return requested > 0 ? Math.min(requested, keepAlive) : keepAlive;
+        };
+    }
+
+    /**
+     * Returns the client, which is closed together with this pool.
+     *
+     * @return pooled HTTP client
+     */
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns statistics of the connection pool: leased, pending (waiting for a connection), available and maximum
+     * number of connections.
+     *
+     * @return current statistics of the connection pool
+     */
+    public PoolStats getPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * Closes the client and all its connections.
+     */
+    @Override
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
@@ -1,5 +1,6 @@
 package com.sdl.dxa.tridion.modelservice;
 
+import com.sdl.dxa.tridion.http.PooledHttpClient;
 import com.sdl.dxa.tridion.modelservice.exceptions.ItemNotFoundInModelServiceException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceBadRequestException;
 import com.sdl.dxa.tridion.modelservice.exceptions.ModelServiceInternalServerErrorException;
@@ -7,18 +8,23 @@ import com.sdl.web.client.impl.OAuthTokenProvider;
 import com.tridion.ambientdata.AmbientDataContext;
 import com.tridion.ambientdata.claimstore.ClaimStore;
 import com.tridion.ambientdata.web.WebClaims;
+import org.apache.http.pool.PoolStats;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.cache.annotation.CacheResult;
 import java.net.URI;
 import java.util.Arrays;
@@ -43,13 +49,68 @@ public class ModelServiceClient {
 
     @SuppressWarnings("SpringAutowiredFieldsWarningInspection")
     @Autowired(required = false)
-    private RestTemplate restTemplate = new RestTemplate();
+    private RestTemplate restTemplate;
+
+    @Value("${dxa.model.service.http.max-per-route:" + PooledHttpClient.DEFAULT_MAX_PER_ROUTE + "}")
+    private int maxPerRoute = PooledHttpClient.DEFAULT_MAX_PER_ROUTE;
+
+    @Value("${dxa.model.service.http.max-total:" + PooledHttpClient.DEFAULT_MAX_TOTAL + "}")
+    private int maxTotal = PooledHttpClient.DEFAULT_MAX_TOTAL;
+
+    @Value("${dxa.model.service.http.connect-timeout:" + PooledHttpClient.DEFAULT_CONNECT_TIMEOUT + "}")
+    private int connectTimeout = PooledHttpClient.DEFAULT_CONNECT_TIMEOUT;
+
+    @Value("${dxa.model.service.http.read-timeout:" + PooledHttpClient.DEFAULT_READ_TIMEOUT + "}")
+    private int readTimeout = PooledHttpClient.DEFAULT_READ_TIMEOUT;
+
+    @Value("${dxa.model.service.http.keep-alive:" + PooledHttpClient.DEFAULT_KEEP_ALIVE + "}")
+    private long keepAlive = PooledHttpClient.DEFAULT_KEEP_ALIVE;
+
+    @Value("${dxa.model.service.http.idle-timeout:" + PooledHttpClient.DEFAULT_IDLE_TIMEOUT + "}")
+    private long idleTimeout = PooledHttpClient.DEFAULT_IDLE_TIMEOUT;
+
+    private ModelServiceRequestFactory requestFactory;
 
     @Autowired
     public ModelServiceClient(ModelServiceClientConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Sends requests over a pool of kept-alive connections, unless the given {@link RestTemplate} already uses a
+     * request factory other than the default one.
+     */
+    @PostConstruct
+    public void initRequestFactory() {
+        requestFactory = new ModelServiceRequestFactory(
+                new PooledHttpClient(maxPerRoute, maxTotal, connectTimeout, readTimeout, keepAlive, idleTimeout));
+        log.debug("Model Service requests use up to {} connections, {} per host", maxTotal, maxPerRoute);
+        if (restTemplate == null) {
+            restTemplate = new RestTemplate(requestFactory);
+        } else if (restTemplate.getRequestFactory() instanceof SimpleClientHttpRequestFactory) {
+            restTemplate.setRequestFactory(requestFactory);
+        } else {
+            log.debug("RestTemplate for the Model Service uses its own request factory {}", restTemplate.getRequestFactory());
+        }
+    }
+
+    @PreDestroy
+    public void destroyRequestFactory() throws Exception {
+        if (requestFactory != null) {
+            requestFactory.destroy();
+        }
+    }
+
+    /**
+     * Returns statistics of the connection pool to the Model Service: leased, pending (waiting for a connection),
+     * available and maximum number of connections.
+     *
+     * @return current statistics of the connection pool, or {@code null} if the pool is not created yet
+     */
+    public PoolStats getPoolStats() {
+        return requestFactory == null ? null : requestFactory.getPoolStats();
+    }
+
     @CacheResult(cacheName = "model-service",
                  exceptionCacheName = "failures", cachedExceptions = {ItemNotFoundInModelServiceException.class})
     public <T> T getForType(String serviceUrl, Class<T> type, Object... params) throws ItemNotFoundInModelServiceException {
@@ -106,7 +167,7 @@ public class ModelServiceClient {
         if (previewToken != null) {
             // commented because of bug in CIS https://jira.sdl.com/browse/CRQ-3935
             // headers.add(X_PREVIEW_SESSION_TOKEN, previewToken);
-            headers.add(HttpHeaders.COOKIE, String.format("%s=%s", PREVIEW_SESSION_TOKEN, previewToken));
+            headers.add(HttpHeaders.COOKIE, PREVIEW_SESSION_TOKEN + '=' + previewToken);
         }
     }
 
@@ -0,0 +1,39 @@
+package com.sdl.dxa.tridion.modelservice;
+
+import com.sdl.dxa.tridion.http.PooledHttpClient;
+import org.apache.http.pool.PoolStats;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Request factory for the Model Service, sending requests over a {@link PooledHttpClient}.
+ * <p>Responses are requested gzip-compressed and decompressed while they are read, so message converters read the
+ * model straight from the decompressing stream. The pool is closed when the factory is destroyed.</p>
+ */
+public class ModelServiceRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final PooledHttpClient pool;
+
+    public ModelServiceRequestFactory() {
+        this(PooledHttpClient.withDefaults());
+    }
+
+    /**
+     * Creates a request factory sending requests over the given pool of connections.
+     *
+     * @param pool pooled client to send requests with
+     */
+    public ModelServiceRequestFactory(PooledHttpClient pool) {
+        super(pool.getHttpClient());
+        this.pool = pool;
+    }
+
+    /**
+     * Returns statistics of the connection pool: leased, pending (waiting for a connection), available and maximum
+     * number of connections.
+     *
+     * @return current statistics of the connection pool
+     */
+    public PoolStats getPoolStats() {
+        return pool.getPoolStats();
+    }
+}
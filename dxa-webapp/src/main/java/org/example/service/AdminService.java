@@ -3,6 +3,7 @@ package org.example.service;
 import com.sdl.webapp.common.api.WebRequestContext;
 import com.sdl.webapp.common.api.localization.Localization;
 import com.sdl.webapp.common.api.localization.LocalizationResolver;
+import com.sdl.webapp.common.impl.interceptor.StaticContentInterceptor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,8 +21,11 @@ public class AdminService {
     @Autowired
     private LocalizationResolver localizationResolver;
 
+    @Autowired(required = false)
+    private StaticContentInterceptor staticContentInterceptor;
+
     /**
-     * Refreshes the localization and returns the index path.
+     * Refreshes the localization, drops the static assets held in memory and returns the index path.
      *
      * @return the index path of the localization
      */
@@ -31,6 +35,10 @@ public class AdminService {
         log.trace("handleRefresh: localization {}", localization);
 
         localizationResolver.refreshLocalization(localization);
+        if (staticContentInterceptor != null) {
+            // versioned assets may have been republished under the same version
+            staticContentInterceptor.clearHotCache();
+        }
         return localization.getPath();
     }
 }